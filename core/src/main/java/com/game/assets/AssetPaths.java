@@ -8,8 +8,11 @@ public class AssetPaths {
     public static final String FRUIT_TEXTURE = "images/fruit.png";
     public static final String HORIZONTAL_ENEMY = "images/enemy1.png";
     public static final String VERTICAL_ENEMY = "images/enemy.png";
+    public static final String CHASING_ENEMY = "images/enemy2.png";
     public static final String HEART_TEXTURE = "images/heart.png";
 
+    public static final String SPRITE_ATLAS = "atlas/sprites.atlas";
+
     public static final String LEVEL1_MAP = "maps/level1.json";
     public static final String LEVEL2_MAP = "maps/level2.json";
     public static final String LEVEL3_MAP = "maps/level3.json";
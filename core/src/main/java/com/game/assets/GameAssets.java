@@ -0,0 +1,156 @@
+package com.game.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.game.controller.AudioManager;
+import com.game.model.GameMap;
+
+/**
+ * Point d'accès partagé au chargement des ressources du jeu, via un {@link AssetManager} unique.
+ *
+ * <p>Au démarrage, {@link #queueStartupAssets(AudioManager, String)} met en file les ressources
+ * nécessaires à la première partie : l'atlas des sprites, les sons, les musiques, le skin et
+ * la première carte. Les fichiers sont lus et décodés sur le thread de chargement de
+ * l'{@link AssetManager} ; {@link #update()} n'envoie les textures à OpenGL que pendant
+ * {@link #UPDATE_BUDGET_MILLIS} millisecondes par frame, pour que l'écran de chargement reste fluide.</p>
+ *
+ * <p>{@link #get(String, Class)} charge de façon synchrone une ressource qui ne l'a pas encore été :
+ * le jeu fonctionne aussi sans chargement préalable (outils, simulation sans fenêtre).</p>
+ *
+ * <p>Cette classe doit être utilisée depuis le thread de rendu.</p>
+ */
+public final class GameAssets {
+    /** Temps maximal consacré au chargement à chaque frame (en millisecondes). */
+    public static final int UPDATE_BUDGET_MILLIS = 8;
+
+    /** Gestionnaire des ressources, créé à la première utilisation. */
+    private static AssetManager manager;
+
+    private GameAssets() {
+    }
+
+    /**
+     * Met en file le chargement asynchrone des ressources de la première partie.
+     *
+     * @param audioManager Le gestionnaire audio transmis au joueur de la première carte.
+     * @param firstMap     Le chemin de la carte du premier niveau.
+     */
+    public static void queueStartupAssets(AudioManager audioManager, String firstMap) {
+        AssetManager assets = getManager();
+        assets.load(AssetPaths.UISKIN, Skin.class);
+        if (Gdx.files.internal(AssetPaths.SPRITE_ATLAS).exists()) {
+            assets.load(AssetPaths.SPRITE_ATLAS, TextureAtlas.class);
+        }
+        assets.load(AssetPaths.ENEMY_HIT_SOUND, Sound.class);
+        assets.load(AssetPaths.FRUIT_COLLECTED_SOUND, Sound.class);
+        assets.load(AssetPaths.BACKGROUND_MUSIC, Music.class);
+        assets.load(AssetPaths.GAMEOVER_MUSIC, Music.class);
+        assets.load(AssetPaths.VICTORY_MUSIC, Music.class);
+        assets.load(firstMap, GameMap.class, new GameMapLoader.Parameters(audioManager));
+    }
+
+    /**
+     * Poursuit le chargement des ressources en file pendant au plus {@link #UPDATE_BUDGET_MILLIS}
+     * millisecondes.
+     *
+     * @return {@code true} si toutes les ressources en file sont chargées, sinon {@code false}.
+     */
+    public static boolean update() {
+        return getManager().update(UPDATE_BUDGET_MILLIS);
+    }
+
+    /**
+     * Retourne l'avancement du chargement des ressources en file.
+     *
+     * @return Une valeur comprise entre {@code 0} et {@code 1}.
+     */
+    public static float getProgress() {
+        return getManager().getProgress();
+    }
+
+    /**
+     * Indique si une ressource est chargée.
+     *
+     * @param path Le chemin de la ressource.
+     * @return {@code true} si la ressource est disponible sans attente, sinon {@code false}.
+     */
+    public static boolean isLoaded(String path) {
+        return manager != null && manager.isLoaded(path);
+    }
+
+    /**
+     * Retourne une ressource, en la chargeant immédiatement si elle ne l'est pas encore.
+     *
+     * @param path Le chemin de la ressource.
+     * @param type Le type de la ressource.
+     * @param <T>  Le type de la ressource.
+     * @return La ressource chargée.
+     * @throws com.badlogic.gdx.utils.GdxRuntimeException si la ressource ne peut pas être chargée.
+     */
+    public static <T> T get(String path, Class<T> type) {
+        AssetManager assets = getManager();
+        if (!assets.isLoaded(path, type)) {
+            if (!assets.contains(path, type)) {
+                assets.load(path, type);
+            }
+            assets.finishLoadingAsset(path);
+        }
+        return assets.get(path, type);
+    }
+
+    /**
+     * Retire une ressource chargée du gestionnaire et la retourne à l'appelant, qui en devient
+     * responsable.
+     *
+     * @param path Le chemin de la ressource.
+     * @param type Le type de la ressource.
+     * @param <T>  Le type de la ressource.
+     * @return La ressource, ou {@code null} si elle n'est pas chargée.
+     */
+    public static <T> T take(String path, Class<T> type) {
+        if (manager == null || !manager.isLoaded(path, type)) {
+            return null;
+        }
+        T asset = manager.get(path, type);
+        manager.unload(path);
+        return asset;
+    }
+
+    /**
+     * Rend une référence sur une ressource, libérée lorsqu'elle n'est plus utilisée.
+     *
+     * @param path Le chemin de la ressource.
+     */
+    public static void unload(String path) {
+        if (manager != null && manager.contains(path)) {
+            manager.unload(path);
+        }
+    }
+
+    /**
+     * Libère toutes les ressources chargées.
+     *
+     * <p>Cette méthode doit être appelée à la fermeture du jeu.</p>
+     */
+    public static void dispose() {
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+    }
+
+    /**
+     * Retourne le gestionnaire des ressources, en le créant si nécessaire.
+     */
+    private static AssetManager getManager() {
+        if (manager == null) {
+            manager = new AssetManager();
+            manager.setLoader(GameMap.class, new GameMapLoader(manager.getFileHandleResolver()));
+        }
+        return manager;
+    }
+}
@@ -0,0 +1,66 @@
+package com.game.assets;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.game.controller.AudioManager;
+import com.game.model.GameMap;
+
+/**
+ * Chargeur de {@link GameMap} pour l'{@link AssetManager}.
+ *
+ * <p>La carte est entièrement construite sur le thread de chargement de l'{@link AssetManager} :
+ * sa construction ne touche pas à OpenGL, et ses textures ne sont obtenues qu'au premier rendu.</p>
+ */
+public class GameMapLoader extends AsynchronousAssetLoader<GameMap, GameMapLoader.Parameters> {
+    /** Carte construite par {@link #loadAsync}, en attente de {@link #loadSync}. */
+    private GameMap gameMap;
+
+    /**
+     * Initialise le chargeur de cartes.
+     *
+     * @param resolver Le résolveur des chemins de fichiers.
+     */
+    public GameMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    public void loadAsync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        if (parameter == null || parameter.audioManager == null) {
+            throw new IllegalArgumentException("AudioManager ne peut pas être null");
+        }
+        gameMap = new GameMap(fileName, parameter.audioManager);
+    }
+
+    @Override
+    public GameMap loadSync(AssetManager manager, String fileName, FileHandle file, Parameters parameter) {
+        GameMap loaded = gameMap;
+        gameMap = null;
+        return loaded;
+    }
+
+    @Override
+    public Array<AssetDescriptor> getDependencies(String fileName, FileHandle file, Parameters parameter) {
+        return null;
+    }
+
+    /**
+     * Paramètres de chargement d'une carte.
+     */
+    public static class Parameters extends AssetLoaderParameters<GameMap> {
+        /** Gestionnaire audio transmis au joueur de la carte. */
+        public AudioManager audioManager;
+
+        /**
+         * @param audioManager Le gestionnaire audio transmis au joueur de la carte.
+         */
+        public Parameters(AudioManager audioManager) {
+            this.audioManager = audioManager;
+        }
+    }
+}
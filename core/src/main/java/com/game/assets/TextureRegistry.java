@@ -0,0 +1,148 @@
+package com.game.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registre partagé des textures du jeu, indexé par les chemins de {@link AssetPaths}.
+ *
+ * <p>Les images de {@code images/} et {@code buttons/} sont lues depuis l'atlas généré par la
+ * tâche Gradle {@code packTextures} ({@link AssetPaths#SPRITE_ATLAS}) : elles partagent toutes
+ * la même texture, ce qui permet au {@code SpriteBatch} de les dessiner en un seul appel.
+ * Les images absentes de l'atlas (comme le tileset) sont chargées dans leur propre texture.</p>
+ *
+ * <p>Le registre compte les références : une région est libérée lorsque la dernière
+ * référence est rendue, et l'atlas lorsque plus aucune de ses régions n'est utilisée.
+ * Les textures sont chargées par {@link GameAssets} : l'atlas préchargé par l'écran de
+ * chargement est donc disponible sans attente.</p>
+ *
+ * <p>Le registre doit être utilisé depuis le thread de rendu.</p>
+ */
+public final class TextureRegistry {
+    /** Régions chargées et leur nombre de références, par chemin. */
+    private static final Map<String, Entry> entries = new HashMap<>();
+    /** Atlas des sprites, chargé à la première demande. */
+    private static TextureAtlas atlas;
+    /** Nombre de régions de l'atlas actuellement référencées. */
+    private static int atlasReferences;
+
+    private TextureRegistry() {
+    }
+
+    /**
+     * Retourne la région associée à un chemin, en la chargeant si nécessaire.
+     *
+     * <p>Chaque appel doit être suivi d'un appel à {@link #release(String)} avec le même chemin.</p>
+     *
+     * @param path Le chemin de l'image (une constante de {@link AssetPaths}).
+     * @return La région partagée.
+     */
+    public static TextureRegion acquire(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            TextureRegion region = findInAtlas(path);
+            if (region != null) {
+                atlasReferences++;
+                entry = new Entry(region, false);
+            } else {
+                Texture texture = GameAssets.get(path, Texture.class);
+                entry = new Entry(new TextureRegion(texture), true);
+            }
+            entries.put(path, entry);
+        }
+        entry.references++;
+        return entry.region;
+    }
+
+    /**
+     * Rend une référence à une région et la libère s'il s'agissait de la dernière.
+     *
+     * @param path Le chemin de l'image.
+     */
+    public static void release(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return;
+        }
+        entry.references--;
+        if (entry.references > 0) {
+            return;
+        }
+        entries.remove(path);
+        if (entry.standalone) {
+            GameAssets.unload(path);
+        } else if (--atlasReferences == 0) {
+            GameAssets.unload(AssetPaths.SPRITE_ATLAS);
+            atlas = null;
+        }
+    }
+
+    /**
+     * Retourne le nombre de références actuellement détenues sur une région.
+     *
+     * @param path Le chemin de l'image.
+     * @return Le nombre de références, ou {@code 0} si la région n'est pas chargée.
+     */
+    public static int getReferenceCount(String path) {
+        Entry entry = entries.get(path);
+        return entry == null ? 0 : entry.references;
+    }
+
+    /**
+     * Libère toutes les textures du registre, quel que soit leur nombre de références.
+     *
+     * <p>Cette méthode doit être appelée à la fermeture du jeu.</p>
+     */
+    public static void disposeAll() {
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            if (entry.getValue().standalone) {
+                GameAssets.unload(entry.getKey());
+            }
+        }
+        entries.clear();
+        if (atlas != null) {
+            GameAssets.unload(AssetPaths.SPRITE_ATLAS);
+            atlas = null;
+        }
+        atlasReferences = 0;
+    }
+
+    /**
+     * Recherche l'image dans l'atlas des sprites, en chargeant l'atlas si nécessaire.
+     *
+     * <p>Les régions de l'atlas sont nommées d'après le chemin de l'image sans son extension,
+     * par exemple {@code images/player}.</p>
+     *
+     * @return La région trouvée, ou {@code null} si l'image n'est pas dans l'atlas.
+     */
+    private static TextureRegion findInAtlas(String path) {
+        if (atlas == null) {
+            if (!Gdx.files.internal(AssetPaths.SPRITE_ATLAS).exists()) {
+                return null;
+            }
+            atlas = GameAssets.get(AssetPaths.SPRITE_ATLAS, TextureAtlas.class);
+        }
+
+        int extension = path.lastIndexOf('.');
+        String name = extension < 0 ? path : path.substring(0, extension);
+        return atlas.findRegion(name);
+    }
+
+    /** Région chargée, son origine et son compteur de références. */
+    private static class Entry {
+        private final TextureRegion region;
+        /** Indique si la région couvre une texture chargée hors atlas. */
+        private final boolean standalone;
+        private int references;
+
+        private Entry(TextureRegion region, boolean standalone) {
+            this.region = region;
+            this.standalone = standalone;
+        }
+    }
+}
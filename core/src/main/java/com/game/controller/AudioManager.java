@@ -3,43 +3,44 @@ package com.game.controller;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.game.assets.AssetPaths;
-
-
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.audio.Sound;
-import com.game.assets.AssetPaths;
+import com.game.assets.GameAssets;
 
 /**
  * La classe {@code AudioManager} gère les sons et musiques du jeu.
+ *
+ * <p>Les sons et musiques sont obtenus auprès de {@link GameAssets} à leur première utilisation :
+ * ils sont normalement déjà chargés par l'écran de chargement.</p>
+ *
+ * <p>Les effets sonores peuvent être déclenchés depuis le thread de simulation : ils sont alors
+ * transmis au thread de rendu, seul autorisé à utiliser le moteur audio.</p>
  */
 public class AudioManager {
     private Music backgroundMusic;
-    private Sound enemyHitSound;
-    private Sound fruitCollectedSound;
+    /** Thread de rendu, sur lequel le gestionnaire a été créé. */
+    private final Thread renderThread;
 
     /**
-     * Initialise les ressources audio du jeu.
+     * Initialise le gestionnaire audio du jeu.
      */
     public AudioManager() {
-        try {
-            backgroundMusic = Gdx.audio.newMusic(Gdx.files.internal(AssetPaths.BACKGROUND_MUSIC));
-            enemyHitSound = Gdx.audio.newSound(Gdx.files.internal(AssetPaths.ENEMY_HIT_SOUND));
-            fruitCollectedSound = Gdx.audio.newSound(Gdx.files.internal(AssetPaths.FRUIT_COLLECTED_SOUND));
-
-            backgroundMusic.setLooping(true); // Boucle la musique
-            backgroundMusic.setVolume(0.5f); // Volume par défaut
-        } catch (Exception e) {
-            System.err.println("Erreur lors du chargement des fichiers audio : " + e.getMessage());
-        }
+        renderThread = Thread.currentThread();
     }
 
     /**
      * Joue la musique de fond.
      */
     public void playBackgroundMusic() {
-        if (backgroundMusic != null && !backgroundMusic.isPlaying()) {
+        if (backgroundMusic == null) {
+            backgroundMusic = load(AssetPaths.BACKGROUND_MUSIC, Music.class);
+            if (backgroundMusic == null) {
+                return;
+            }
+            backgroundMusic.setLooping(true); // Boucle la musique
+            backgroundMusic.setVolume(0.5f); // Volume par défaut
+        }
+        if (!backgroundMusic.isPlaying()) {
             backgroundMusic.play();
         }
     }
@@ -48,32 +49,64 @@ public class AudioManager {
      * Joue le son lorsqu'un ennemi est touché.
      */
     public void playEnemyHitSound() {
-        if (enemyHitSound != null) {
-            enemyHitSound.play(1.0f);
-        }
+        play(AssetPaths.ENEMY_HIT_SOUND);
     }
 
     /**
      * Joue le son lorsqu'un fruit est collecté.
      */
     public void playFruitCollectedSound() {
-        if (fruitCollectedSound != null) {
-            fruitCollectedSound.play(1.0f);
+        play(AssetPaths.FRUIT_COLLECTED_SOUND);
+    }
+
+    /**
+     * Joue un effet sonore, en le transmettant au thread de rendu si nécessaire.
+     *
+     * @param path Le chemin du son à jouer.
+     */
+    private void play(final String path) {
+        if (Thread.currentThread() == renderThread) {
+            playNow(path);
+        } else {
+            Gdx.app.postRunnable(() -> playNow(path));
         }
     }
 
     /**
-     * Libère les ressources audio.
+     * Joue un effet sonore depuis le thread de rendu.
+     *
+     * @param path Le chemin du son à jouer.
      */
-    public void dispose() {
-        if (backgroundMusic != null) {
-            backgroundMusic.dispose();
+    private void playNow(String path) {
+        Sound sound = load(path, Sound.class);
+        if (sound != null) {
+            sound.play(1.0f);
         }
-        if (enemyHitSound != null) {
-            enemyHitSound.dispose();
+    }
+
+    /**
+     * Obtient une ressource audio auprès de {@link GameAssets}.
+     *
+     * @return La ressource, ou {@code null} si elle n'a pas pu être chargée.
+     */
+    private <T> T load(String path, Class<T> type) {
+        try {
+            return GameAssets.get(path, type);
+        } catch (GdxRuntimeException e) {
+            System.err.println("Erreur lors du chargement des fichiers audio : " + e.getMessage());
+            return null;
         }
-        if (fruitCollectedSound != null) {
-            fruitCollectedSound.dispose();
+    }
+
+    /**
+     * Arrête la musique de fond.
+     *
+     * <p>Les ressources audio appartiennent à {@link GameAssets}, qui les libère à la fermeture du jeu.</p>
+     */
+    public void dispose() {
+        if (backgroundMusic != null) {
+            backgroundMusic.stop();
+            backgroundMusic = null;
         }
     }
 }
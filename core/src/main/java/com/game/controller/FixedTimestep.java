@@ -0,0 +1,65 @@
+package com.game.controller;
+
+/**
+ * La classe {@code FixedTimestep} cadence la simulation à un pas de temps fixe, indépendant
+ * de la fréquence d'affichage.
+ *
+ * <p>Le temps écoulé à chaque frame est accumulé, puis consommé par pas de durée fixe.
+ * Le reste de l'accumulateur, exprimé en fraction de pas, sert à interpoler la position
+ * des entités entre les deux derniers pas lors du rendu.</p>
+ *
+ * <p>Le nombre de pas exécutés par frame est borné : après un gel de l'application,
+ * le retard excédentaire est abandonné au lieu d'être rattrapé.</p>
+ */
+public class FixedTimestep {
+    /** Nombre maximal de pas de simulation exécutés pour une seule frame. */
+    private static final int MAX_STEPS_PER_FRAME = 8;
+
+    /** Durée d'un pas de simulation (en secondes). */
+    private final float stepSeconds;
+    /** Temps accumulé qui n'a pas encore été simulé (en secondes). */
+    private float accumulator;
+
+    /**
+     * Initialise un pas de temps fixe.
+     *
+     * @param ticksPerSecond Le nombre de pas de simulation par seconde.
+     */
+    public FixedTimestep(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("La fréquence de simulation doit être positive : " + ticksPerSecond);
+        }
+        this.stepSeconds = 1f / ticksPerSecond;
+    }
+
+    /**
+     * Ajoute le temps d'une frame et retourne le nombre de pas de simulation à exécuter.
+     *
+     * @param frameSeconds Le temps écoulé depuis la frame précédente (en secondes).
+     * @return Le nombre de pas à exécuter pour cette frame.
+     */
+    public int advance(float frameSeconds) {
+        accumulator += Math.max(0, frameSeconds);
+
+        int steps = (int) (accumulator / stepSeconds);
+        if (steps > MAX_STEPS_PER_FRAME) {
+            steps = MAX_STEPS_PER_FRAME;
+            accumulator = steps * stepSeconds;
+        }
+        accumulator -= steps * stepSeconds;
+        return steps;
+    }
+
+    /**
+     * Retourne la fraction du pas suivant déjà écoulée, utilisée pour l'interpolation.
+     *
+     * @return Une valeur comprise entre {@code 0} et {@code 1}.
+     */
+    public float getAlpha() {
+        return Math.min(1f, accumulator / stepSeconds);
+    }
+
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+}
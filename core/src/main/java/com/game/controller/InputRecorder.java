@@ -0,0 +1,136 @@
+package com.game.controller;
+
+import com.game.model.InputSource;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * La classe {@code InputRecorder} enregistre les commandes du joueur pas à pas dans un journal binaire.
+ *
+ * <p>Elle s'intercale entre une source d'entrées (le clavier) et la simulation : chaque masque
+ * de commandes lu est transmis tel quel à la simulation et ajouté au journal. Le journal peut
+ * ensuite être rejoué à l'identique par {@link InputReplayer}.</p>
+ *
+ * <p>Format du journal :</p>
+ * <ul>
+ *   <li>l'en-tête : {@link #MAGIC}, {@link #VERSION}, le numéro du niveau et la fréquence de
+ *   simulation (entiers variables)</li>
+ *   <li>une suite de plages : un octet de commandes suivi du nombre de pas consécutifs
+ *   où il est resté identique (entier variable)</li>
+ *   <li>une plage de longueur nulle qui marque la fin du journal</li>
+ * </ul>
+ *
+ * <p>Seuls les changements de commandes sont écrits : une partie de plusieurs minutes tient
+ * en quelques centaines d'octets.</p>
+ */
+public class InputRecorder implements InputSource {
+    /** Signature des journaux d'entrées ("MZIN"). */
+    static final int MAGIC = 0x4D5A494E;
+    /** Version du format des journaux d'entrées. */
+    static final int VERSION = 1;
+
+    /** Source d'entrées enregistrée. */
+    private final InputSource source;
+    /** Flux du journal. */
+    private final DataOutputStream out;
+    /** Commandes de la plage en cours. */
+    private int currentCommands;
+    /** Nombre de pas de la plage en cours. */
+    private int runLength;
+    /** Indique si le journal a été fermé. */
+    private boolean closed;
+    /** Indique si une écriture a échoué : plus rien n'est ajouté au journal. */
+    private boolean failed;
+
+    /**
+     * Commence l'enregistrement d'un journal et écrit son en-tête.
+     *
+     * @param source         La source d'entrées à enregistrer.
+     * @param levelId        Le numéro du niveau joué.
+     * @param ticksPerSecond La fréquence de la simulation (en pas par seconde).
+     * @param out            Le flux dans lequel écrire le journal. Il est fermé par {@link #close()}.
+     * @throws IOException si l'en-tête ne peut pas être écrit.
+     */
+    public InputRecorder(InputSource source, int levelId, int ticksPerSecond, OutputStream out) throws IOException {
+        this.source = source;
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        writeVarInt(this.out, levelId);
+        writeVarInt(this.out, ticksPerSecond);
+    }
+
+    /**
+     * Lit les commandes de la source, les ajoute au journal et les transmet à la simulation.
+     *
+     * @param tick Le numéro du pas de simulation.
+     * @return Le masque des commandes actives.
+     */
+    @Override
+    public int poll(long tick) {
+        int commands = source.poll(tick);
+        if (closed || failed) {
+            return commands;
+        }
+
+        if (runLength > 0 && commands != currentCommands) {
+            writeRun();
+        }
+        currentCommands = commands;
+        runLength++;
+        return commands;
+    }
+
+    /**
+     * Écrit la dernière plage et la fin du journal, puis ferme le flux.
+     *
+     * <p>Les appels suivants n'ont aucun effet. Le flux est fermé même si une écriture a échoué.</p>
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (!failed) {
+                if (runLength > 0) {
+                    out.writeByte(currentCommands);
+                    writeVarInt(out, runLength);
+                }
+                out.writeByte(0);
+                writeVarInt(out, 0);
+            }
+            out.close();
+        } catch (IOException e) {
+            System.err.println("Erreur lors de l'écriture du journal d'entrées : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Écrit la plage en cours et en commence une nouvelle.
+     */
+    private void writeRun() {
+        try {
+            out.writeByte(currentCommands);
+            writeVarInt(out, runLength);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de l'écriture du journal d'entrées : " + e.getMessage());
+            failed = true;
+        }
+        runLength = 0;
+    }
+
+    /**
+     * Écrit un entier positif sur un nombre variable d'octets (7 bits par octet).
+     */
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+}
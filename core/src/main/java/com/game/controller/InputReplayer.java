@@ -0,0 +1,153 @@
+package com.game.controller;
+
+import com.game.model.GameMap;
+import com.game.model.InputSource;
+import com.game.model.SimulationClock;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * La classe {@code InputReplayer} rejoue un journal d'entrées écrit par {@link InputRecorder}.
+ *
+ * <p>Elle fournit à la simulation, pas par pas, les commandes enregistrées, en passant par le même
+ * chemin que le clavier ({@link InputSource}). La simulation étant déterministe, un journal rejoué
+ * sur la carte du même niveau reproduit exactement la partie enregistrée.</p>
+ *
+ * <p>{@link #replay(GameMap, boolean)} fait avancer une carte sans affichage, soit en temps réel,
+ * soit aussi vite que possible : c'est la charge de travail de référence pour mesurer les
+ * performances de la simulation.</p>
+ */
+public class InputReplayer implements InputSource {
+    /** Numéro du niveau enregistré. */
+    private final int levelId;
+    /** Fréquence de la simulation enregistrée (en pas par seconde). */
+    private final int ticksPerSecond;
+    /** Commandes de chaque plage. */
+    private final int[] runCommands;
+    /** Premier pas (exclu) de chaque plage : la plage {@code i} couvre les pas {@code [runEnds[i-1], runEnds[i])}. */
+    private final long[] runEnds;
+
+    /**
+     * Charge un journal d'entrées.
+     *
+     * @param in Le flux contenant le journal. Il est lu entièrement puis fermé.
+     * @throws IOException si le journal est illisible ou n'est pas un journal d'entrées.
+     */
+    public InputReplayer(InputStream in) throws IOException {
+        try (DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            if (data.readInt() != InputRecorder.MAGIC) {
+                throw new IOException("Ce fichier n'est pas un journal d'entrées");
+            }
+            int version = data.readUnsignedByte();
+            if (version != InputRecorder.VERSION) {
+                throw new IOException("Version de journal d'entrées non supportée : " + version);
+            }
+            levelId = readVarInt(data);
+            ticksPerSecond = readVarInt(data);
+
+            int[] commands = new int[16];
+            long[] ends = new long[16];
+            int count = 0;
+            long tick = 0;
+            while (true) {
+                int runCommand = data.readUnsignedByte();
+                int runLength = readVarInt(data);
+                if (runLength == 0) {
+                    break;
+                }
+                if (count == commands.length) {
+                    commands = Arrays.copyOf(commands, count * 2);
+                    ends = Arrays.copyOf(ends, count * 2);
+                }
+                tick += runLength;
+                commands[count] = runCommand;
+                ends[count] = tick;
+                count++;
+            }
+            runCommands = Arrays.copyOf(commands, count);
+            runEnds = Arrays.copyOf(ends, count);
+        }
+    }
+
+    /**
+     * Retourne les commandes enregistrées pour un pas de simulation.
+     *
+     * @param tick Le numéro du pas de simulation.
+     * @return Le masque des commandes, ou {@code 0} au-delà de la fin du journal.
+     */
+    @Override
+    public int poll(long tick) {
+        int run = Arrays.binarySearch(runEnds, tick + 1);
+        if (run < 0) {
+            run = -run - 1;
+        }
+        return run < runCommands.length ? runCommands[run] : 0;
+    }
+
+    /**
+     * Fait avancer une carte sur toute la durée du journal, sans affichage.
+     *
+     * <p>La carte doit être celle du niveau enregistré, fraîchement chargée.</p>
+     *
+     * @param gameMap  La carte à simuler.
+     * @param realTime {@code true} pour respecter la cadence enregistrée, {@code false} pour
+     *                 simuler aussi vite que possible.
+     * @return L'horloge de la simulation après le dernier pas.
+     */
+    public SimulationClock replay(GameMap gameMap, boolean realTime) {
+        SimulationClock clock = new SimulationClock(ticksPerSecond);
+        long stepNanos = Math.round(1_000_000_000.0 / ticksPerSecond);
+        long start = System.nanoTime();
+
+        while (clock.getTick() < getTickCount()) {
+            if (realTime) {
+                long wait = start + clock.getTick() * stepNanos - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            gameMap.step(clock, this);
+        }
+        return clock;
+    }
+
+    /**
+     * Retourne le nombre de pas enregistrés dans le journal.
+     *
+     * @return Le nombre de pas de simulation du journal.
+     */
+    public long getTickCount() {
+        return runEnds.length == 0 ? 0 : runEnds[runEnds.length - 1];
+    }
+
+    public int getLevelId() {
+        return levelId;
+    }
+
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Lit un entier positif écrit sur un nombre variable d'octets (7 bits par octet).
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 28) {
+                throw new IOException("Entier variable trop long dans le journal d'entrées");
+            }
+            b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,42 @@
+package com.game.controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.game.model.InputSource;
+
+/**
+ * La classe {@code KeyboardInput} fournit à la simulation les commandes lues au clavier.
+ *
+ * <p>Les flèches directionnelles sont lues une fois par frame sur le thread de rendu par
+ * {@link #sample()}, puis converties en masque de commandes {@link InputSource}. La simulation
+ * peut ensuite lire ce masque depuis n'importe quel thread.</p>
+ */
+public class KeyboardInput implements InputSource {
+    /** Dernier état des commandes lu au clavier. */
+    private volatile int commands;
+
+    /**
+     * Lit l'état actuel des flèches directionnelles.
+     *
+     * <p>Cette méthode doit être appelée à chaque frame depuis le thread de rendu.</p>
+     */
+    public void sample() {
+        int sampled = 0;
+        if (Gdx.input.isKeyPressed(Input.Keys.UP)) sampled |= UP;
+        if (Gdx.input.isKeyPressed(Input.Keys.DOWN)) sampled |= DOWN;
+        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) sampled |= LEFT;
+        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) sampled |= RIGHT;
+        commands = sampled;
+    }
+
+    /**
+     * Retourne les commandes lues lors du dernier appel à {@link #sample()}.
+     *
+     * @param tick Le numéro du pas de simulation (non utilisé, le clavier est lu en temps réel).
+     * @return Le masque des commandes actives.
+     */
+    @Override
+    public int poll(long tick) {
+        return commands;
+    }
+}
@@ -5,8 +5,12 @@ import com.game.model.Level;
 import com.game.model.GameMap;
 import com.game.assets.AssetPaths;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * La classe {@code LevelManager} gère la progression, le chargement et la gestion des niveaux du jeu.
@@ -17,8 +21,13 @@ import java.util.List;
  *   <li>Débloquer le niveau suivant après avoir terminé le niveau actuel</li>
  *   <li>Suivre l'état du niveau actuel et du dernier niveau joué</li>
  *   <li>Réinitialiser la progression des niveaux</li>
+ *   <li>Précharger en arrière-plan la carte du niveau suivant</li>
  * </ul>
  *
+ * <p>Les cartes ne sont construites que pour les niveaux joués (ou préchargés), et au plus
+ * {@link #getMaxResidentMaps()} cartes sont gardées en mémoire : les moins récemment jouées
+ * sont libérées.</p>
+ *
  * <p>Chaque niveau est représenté par une instance de {@link LevelInterface}.</p>
  */
 public class LevelManager {
@@ -31,6 +40,28 @@ public class LevelManager {
     /** Liste des niveaux disponibles dans le jeu. */
     private List<LevelInterface> levels;
     private AudioManager audioManager;
+    /** Nombre de pas de simulation par seconde utilisé par les écrans de niveau. */
+    private int simulationRate = DEFAULT_SIMULATION_RATE;
+    /** Indique si les niveaux sont simulés sur un thread dédié plutôt que sur le thread de rendu. */
+    private boolean threadedSimulation;
+    /** Fichier dans lequel enregistrer les commandes du joueur, ou {@code null} pour ne pas les enregistrer. */
+    private String inputLogFile;
+
+    /** Niveaux dont la carte est en mémoire, du moins au plus récemment joué. */
+    private final Deque<Level> residentLevels = new ArrayDeque<>();
+    /** Nombre maximal de cartes gardées en mémoire. */
+    private int maxResidentMaps = DEFAULT_MAX_RESIDENT_MAPS;
+    /** Thread d'arrière-plan construisant la carte du niveau suivant. */
+    private final ExecutorService prefetcher;
+
+    /** Fréquence de simulation par défaut (en pas par seconde). */
+    public static final int DEFAULT_SIMULATION_RATE = 60;
+    /** Nombre de cartes gardées en mémoire par défaut : le niveau joué et le suivant. */
+    public static final int DEFAULT_MAX_RESIDENT_MAPS = 2;
+    /** Fichiers des cartes des niveaux, dans l'ordre des niveaux. */
+    private static final String[] LEVEL_MAPS = {
+        AssetPaths.LEVEL1_MAP, AssetPaths.LEVEL2_MAP, AssetPaths.LEVEL3_MAP, AssetPaths.LEVEL4_MAP
+    };
 
     /**
      * Initialise le gestionnaire avec une liste de niveaux prédéfinie.
@@ -43,12 +74,18 @@ public class LevelManager {
         }
         this.audioManager = audioManager;
         levels = new ArrayList<>();
-        levels.add(new Level(AssetPaths.LEVEL1_MAP, true, audioManager));
-        levels.add(new Level(AssetPaths.LEVEL2_MAP, false, audioManager));
-        levels.add(new Level(AssetPaths.LEVEL3_MAP, false, audioManager));
-        levels.add(new Level(AssetPaths.LEVEL4_MAP, false, audioManager));
+        for (int i = 0; i < LEVEL_MAPS.length; i++) {
+            levels.add(new Level(LEVEL_MAPS[i], i == 0, audioManager));
+        }
         currentLevel = 1;
         lastPlayedLevel = 1;
+
+        prefetcher = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "level-prefetch");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
     }
 
     /**
@@ -69,6 +106,10 @@ public class LevelManager {
             currentLevel = level;
             lastPlayedLevel = level;
             System.out.println("Niveau " + level + " chargé.");
+            if (selectedLevel instanceof Level) {
+                markResident((Level) selectedLevel);
+            }
+            prefetchLevel(level + 1);
         } else {
             System.out.println("Le niveau " + level + " n'est pas encore débloqué !");
         }
@@ -96,6 +137,7 @@ public class LevelManager {
             nextLevel.setUnlocked(true);
             currentLevel++;
             System.out.println("Niveau " + currentLevel + " débloqué.");
+            prefetchLevel(currentLevel);
         } else {
             System.out.println("Tous les niveaux sont déjà débloqués.");
         }
@@ -138,19 +180,81 @@ public class LevelManager {
     }
 
     /**
-     * Recharge le dernier niveau joué.
+     * Recommence le dernier niveau joué.
      *
-     * <p>Cette méthode recharge le niveau mémorisé comme étant le dernier joué.</p>
+     * <p>Si la carte du niveau est encore en mémoire, elle est remise dans son état initial sans
+     * être relue depuis son fichier. Seules les {@link #getMaxResidentMaps()} cartes les plus
+     * récemment utilisées sont gardées : une carte libérée entre-temps est reconstruite depuis son
+     * fichier, comme au premier chargement.</p>
      */
     public void restartLevel() {
         if (lastPlayedLevel > 0 && lastPlayedLevel <= levels.size()) {
-            System.out.println("Rechargement du dernier niveau joué : " + lastPlayedLevel);
+            System.out.println("Redémarrage du dernier niveau joué : " + lastPlayedLevel);
             loadLevel(lastPlayedLevel);
         } else {
             System.out.println("Impossible de rejouer le niveau. Niveau invalide : " + lastPlayedLevel);
         }
     }
 
+    /**
+     * Construit en arrière-plan la carte d'un niveau débloqué, pendant que le niveau actuel est joué.
+     *
+     * @param level Le numéro du niveau à précharger.
+     */
+    private void prefetchLevel(int level) {
+        LevelInterface next = getLevel(level);
+        if (next instanceof Level && next.isUnlocked()) {
+            ((Level) next).prefetch(prefetcher);
+            markResident((Level) next);
+        }
+    }
+
+    /**
+     * Marque la carte d'un niveau comme la plus récemment utilisée, puis libère les cartes
+     * les moins récemment utilisées au-delà de {@link #getMaxResidentMaps()}.
+     *
+     * <p>La carte du niveau actuel n'est jamais libérée.</p>
+     *
+     * @param level Le niveau dont la carte vient d'être chargée ou préchargée.
+     */
+    private void markResident(Level level) {
+        residentLevels.remove(level);
+        residentLevels.addLast(level);
+        evictResidentMaps();
+    }
+
+    /**
+     * Libère les cartes les moins récemment utilisées au-delà de {@link #getMaxResidentMaps()}.
+     */
+    private void evictResidentMaps() {
+        LevelInterface current = getLevel(currentLevel);
+        int toEvict = residentLevels.size() - maxResidentMaps;
+        for (Level level : new ArrayList<>(residentLevels)) {
+            if (toEvict <= 0) {
+                break;
+            }
+            if (level != current) {
+                level.unload();
+                residentLevels.remove(level);
+                toEvict--;
+                System.out.println("Carte libérée : " + level.getMapFile());
+            }
+        }
+    }
+
+    /**
+     * Libère toutes les cartes en mémoire et arrête le préchargement.
+     *
+     * <p>Cette méthode doit être appelée depuis le thread de rendu, à la fermeture du jeu.</p>
+     */
+    public void dispose() {
+        prefetcher.shutdownNow();
+        for (Level level : residentLevels) {
+            level.unload();
+        }
+        residentLevels.clear();
+    }
+
     /**
      * Retourne l'objet représentant le niveau actuel.
      *
@@ -174,7 +278,9 @@ public class LevelManager {
     public GameMap getCurrentGameMap() {
         LevelInterface currentLevel = getCurrentLevelObject();
         if (currentLevel instanceof Level) {
-            return ((Level) currentLevel).getGameMap();
+            GameMap gameMap = ((Level) currentLevel).getGameMap();
+            markResident((Level) currentLevel);
+            return gameMap;
         }
         throw new IllegalStateException("Le niveau actuel n'a pas de GameMap valide.");
     }
@@ -188,6 +294,110 @@ public class LevelManager {
         this.lastPlayedLevel = i;
     }
 
+    /**
+     * Retourne la fréquence de simulation des niveaux.
+     *
+     * @return Le nombre de pas de simulation par seconde.
+     */
+    public int getSimulationRate() {
+        return simulationRate;
+    }
+
+    /**
+     * Définit la fréquence de simulation des niveaux, indépendamment de la fréquence d'affichage.
+     *
+     * @param simulationRate Le nombre de pas de simulation par seconde.
+     */
+    public void setSimulationRate(int simulationRate) {
+        if (simulationRate <= 0) {
+            throw new IllegalArgumentException("La fréquence de simulation doit être positive : " + simulationRate);
+        }
+        this.simulationRate = simulationRate;
+    }
+
+    /**
+     * Indique si les niveaux sont simulés sur un thread dédié.
+     *
+     * @return {@code true} si la simulation tourne sur son propre thread, sinon {@code false}.
+     */
+    public boolean isThreadedSimulation() {
+        return threadedSimulation;
+    }
+
+    /**
+     * Active ou désactive la simulation des niveaux sur un thread dédié.
+     *
+     * @param threadedSimulation {@code true} pour simuler sur un thread dédié.
+     */
+    public void setThreadedSimulation(boolean threadedSimulation) {
+        this.threadedSimulation = threadedSimulation;
+    }
+
+    /**
+     * Retourne le nombre maximal de cartes gardées en mémoire.
+     *
+     * @return Le nombre maximal de cartes construites ou préchargées.
+     */
+    public int getMaxResidentMaps() {
+        return maxResidentMaps;
+    }
+
+    /**
+     * Définit le nombre maximal de cartes gardées en mémoire.
+     *
+     * @param maxResidentMaps Le nombre maximal de cartes, au moins {@code 1}.
+     */
+    public void setMaxResidentMaps(int maxResidentMaps) {
+        if (maxResidentMaps < 1) {
+            throw new IllegalArgumentException("Le nombre de cartes en mémoire doit être positif : " + maxResidentMaps);
+        }
+        this.maxResidentMaps = maxResidentMaps;
+        evictResidentMaps();
+    }
+
+    /**
+     * Retourne le fichier dans lequel les commandes du joueur sont enregistrées.
+     *
+     * @return Le chemin local du journal d'entrées, ou {@code null} si l'enregistrement est désactivé.
+     */
+    public String getInputLogFile() {
+        return inputLogFile;
+    }
+
+    /**
+     * Active l'enregistrement des commandes du joueur dans un journal d'entrées.
+     *
+     * <p>Chaque niveau lancé remplace le contenu du journal ; celui-ci peut ensuite être rejoué
+     * par un {@link InputReplayer}.</p>
+     *
+     * @param inputLogFile Le chemin local du journal, ou {@code null} pour désactiver l'enregistrement.
+     */
+    public void setInputLogFile(String inputLogFile) {
+        this.inputLogFile = inputLogFile;
+    }
+
+    /**
+     * Retourne le numéro du niveau actuellement en cours.
+     *
+     * @return Le numéro du niveau actuel (à partir de 1).
+     */
+    public int getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Retourne le fichier de la carte d'un niveau, sans construire de gestionnaire de niveaux.
+     *
+     * @param level Le numéro du niveau (à partir de 1).
+     * @return Le chemin du fichier de la carte, ou {@code null} si le niveau est invalide.
+     */
+    public static String getMapFile(int level) {
+        if (level >= 1 && level <= LEVEL_MAPS.length) {
+            return LEVEL_MAPS[level - 1];
+        }
+        return null;
+    }
+
     /**
      * Retourne un niveau spécifique de la liste.
      *
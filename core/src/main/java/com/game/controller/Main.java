@@ -5,6 +5,9 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.game.assets.AssetPaths;
+import com.game.assets.GameAssets;
+import com.game.assets.TextureRegistry;
 import com.game.view.*;
 
 /**
@@ -28,6 +31,33 @@ public class Main extends ApplicationAdapter {
     private Stage stage;
     /** Gestionnaire audio pour la musique et les sons. */
     private AudioManager audioManager;
+    /** Nombre de pas de simulation par seconde, indépendant de la fréquence d'affichage. */
+    private final int simulationRate;
+    /** Indique si les niveaux sont simulés sur un thread dédié. */
+    private final boolean threadedSimulation;
+    /** Fichier dans lequel enregistrer les commandes du joueur, ou {@code null}. */
+    private final String inputLogFile;
+
+    /**
+     * Crée le jeu avec la fréquence de simulation par défaut, simulé sur le thread de rendu.
+     */
+    public Main() {
+        this(LevelManager.DEFAULT_SIMULATION_RATE, false, null);
+    }
+
+    /**
+     * Crée le jeu avec une fréquence et un mode de simulation spécifiques.
+     *
+     * @param simulationRate     Le nombre de pas de simulation par seconde.
+     * @param threadedSimulation {@code true} pour simuler les niveaux sur un thread dédié.
+     * @param inputLogFile       Le fichier dans lequel enregistrer les commandes du joueur,
+     *                           ou {@code null} pour ne pas les enregistrer.
+     */
+    public Main(int simulationRate, boolean threadedSimulation, String inputLogFile) {
+        this.simulationRate = simulationRate;
+        this.threadedSimulation = threadedSimulation;
+        this.inputLogFile = inputLogFile;
+    }
 
     /**
      * Méthode appelée au démarrage de l'application.
@@ -45,13 +75,17 @@ public class Main extends ApplicationAdapter {
         batch = new SpriteBatch();
         stage = new Stage();  // Initialiser le Stage
         audioManager = new AudioManager();  // Initialisation correcte
-        audioManager.playBackgroundMusic(); // Jouer la musique de fond
 
         levelManager = new LevelManager(audioManager); // Passer l'instance d'AudioManager
+        levelManager.setSimulationRate(simulationRate);
+        levelManager.setThreadedSimulation(threadedSimulation);
+        levelManager.setInputLogFile(inputLogFile);
+
+        // Charger les ressources en arrière-plan ; l'écran de chargement lance ensuite le niveau 1
+        GameAssets.queueStartupAssets(audioManager, AssetPaths.LEVEL1_MAP);
 
         // Initialiser le gestionnaire d'écrans
         screenManager = new ScreenManager(stage);
-        levelManager.loadLevel(1);
 
         // Afficher l'écran de chargement d'abord
         screenManager.setScreen(new LoadingScreen(screenManager, levelManager));
@@ -77,6 +111,8 @@ public class Main extends ApplicationAdapter {
      *   <li>SpriteBatch</li>
      *   <li>Stage</li>
      *   <li>ScreenManager</li>
+     *   <li>Les textures partagées du {@link TextureRegistry}</li>
+     *   <li>Les ressources chargées par {@link GameAssets}</li>
      * </ul>
      */
     @Override
@@ -84,7 +120,10 @@ public class Main extends ApplicationAdapter {
         batch.dispose();
         stage.dispose();  // Libérer les ressources du Stage
         screenManager.dispose();
+        levelManager.dispose(); // Libérer les cartes en mémoire
         audioManager.dispose(); // Libérer les ressources audio
+        TextureRegistry.disposeAll(); // Libérer les textures partagées
+        GameAssets.dispose(); // Libérer les ressources chargées
     }
 
 
@@ -0,0 +1,100 @@
+package com.game.controller;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.game.assets.GameAssets;
+import com.game.model.GameMap;
+import com.game.model.Player;
+import com.game.model.SimulationClock;
+
+import java.io.IOException;
+
+/**
+ * La classe {@code ReplayApplication} rejoue un journal d'entrées sans fenêtre ni rendu.
+ *
+ * <p>Au démarrage, elle lit le journal ({@link InputReplayer}), construit la carte du niveau
+ * enregistré puis la fait avancer jusqu'à la fin du journal, en temps réel ou aussi vite que
+ * possible. La durée de la simulation et l'état final du joueur sont affichés, puis
+ * l'application se termine.</p>
+ *
+ * <p>Elle est destinée à un backend sans affichage (par exemple {@code HeadlessApplication}) :
+ * c'est la charge de travail de référence pour mesurer les performances de la simulation, et le
+ * moyen de reproduire une partie enregistrée lors d'un rapport de bogue.</p>
+ */
+public class ReplayApplication extends ApplicationAdapter {
+    /** Chemin local du journal d'entrées à rejouer. */
+    private final String inputLogFile;
+    /** Indique si la cadence enregistrée est respectée. */
+    private final boolean realTime;
+    /** Gestionnaire audio fourni à la carte. */
+    private AudioManager audioManager;
+
+    /**
+     * Crée une application rejouant un journal d'entrées.
+     *
+     * @param inputLogFile Le chemin local du journal d'entrées.
+     * @param realTime     {@code true} pour respecter la cadence enregistrée, {@code false} pour
+     *                     simuler aussi vite que possible.
+     */
+    public ReplayApplication(String inputLogFile, boolean realTime) {
+        if (inputLogFile == null) {
+            throw new IllegalArgumentException("Le journal d'entrées ne peut pas être null");
+        }
+        this.inputLogFile = inputLogFile;
+        this.realTime = realTime;
+    }
+
+    /**
+     * Rejoue le journal puis demande la fermeture de l'application.
+     */
+    @Override
+    public void create() {
+        audioManager = new AudioManager();
+        try {
+            InputReplayer replayer = new InputReplayer(Gdx.files.local(inputLogFile).read());
+            String mapFile = LevelManager.getMapFile(replayer.getLevelId());
+            if (mapFile == null) {
+                System.err.println("Niveau inconnu dans le journal d'entrées : " + replayer.getLevelId());
+            } else {
+                replay(replayer, mapFile);
+            }
+        } catch (IOException | GdxRuntimeException e) {
+            System.err.println("Impossible de rejouer le journal d'entrées : " + e.getMessage());
+        }
+        Gdx.app.exit();
+    }
+
+    /**
+     * Construit la carte du niveau enregistré, la simule sur toute la durée du journal et affiche
+     * le résultat.
+     */
+    private void replay(InputReplayer replayer, String mapFile) {
+        GameMap gameMap = new GameMap(mapFile, audioManager);
+        try {
+            long start = System.nanoTime();
+            SimulationClock clock = replayer.replay(gameMap, realTime);
+            long elapsed = System.nanoTime() - start;
+
+            Player player = gameMap.getPlayer();
+            System.out.println("Journal rejoué : niveau " + replayer.getLevelId() + ", " + clock.getTick()
+                + " pas en " + elapsed / 1_000_000 + " ms ("
+                + Math.round(clock.getTick() * 1e9 / Math.max(1, elapsed)) + " pas/s)");
+            System.out.println("Joueur : x=" + player.getX() + ", y=" + player.getY()
+                + ", vies=" + player.getLives());
+        } finally {
+            gameMap.dispose();
+        }
+    }
+
+    /**
+     * Libère les ressources audio chargées pendant la simulation.
+     */
+    @Override
+    public void dispose() {
+        if (audioManager != null) {
+            audioManager.dispose();
+        }
+        GameAssets.dispose();
+    }
+}
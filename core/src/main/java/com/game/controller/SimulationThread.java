@@ -0,0 +1,117 @@
+package com.game.controller;
+
+import com.game.model.GameMap;
+import com.game.model.GameSnapshot;
+import com.game.model.InputSource;
+import com.game.model.SimulationClock;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * La classe {@code SimulationThread} fait avancer une {@link GameMap} sur un thread dédié.
+ *
+ * <p>La carte est simulée à la cadence de son {@link SimulationClock}, indépendamment du rendu.
+ * Après chaque pas, l'état de la carte est publié dans un {@link SnapshotExchange} que le thread
+ * de rendu consulte sans verrou. Le coût de la simulation et celui du rendu peuvent ainsi
+ * occuper des cœurs différents.</p>
+ *
+ * <p>Le thread s'arrête de lui-même lorsque la partie est terminée (victoire ou défaite).</p>
+ */
+public class SimulationThread implements Runnable {
+    /** Retard maximal rattrapé avant d'abandonner les pas en retard (en nombre de pas). */
+    private static final int MAX_LAG_STEPS = 8;
+
+    /** La carte simulée. Elle ne doit être modifiée que par ce thread tant qu'il tourne. */
+    private final GameMap gameMap;
+    /** Horloge de la simulation. */
+    private final SimulationClock clock;
+    /** Source des commandes du joueur. */
+    private final InputSource input;
+    /** Échange des instantanés avec le thread de rendu. */
+    private final SnapshotExchange exchange;
+    /** Thread Java exécutant la simulation. */
+    private Thread thread;
+    /** Indique si la simulation doit continuer. */
+    private volatile boolean running;
+
+    /**
+     * Initialise le thread de simulation d'une carte.
+     *
+     * @param gameMap  La carte à simuler.
+     * @param clock    L'horloge de la simulation.
+     * @param input    La source des commandes du joueur, lue depuis le thread de simulation.
+     * @param exchange L'échange dans lequel publier les instantanés.
+     */
+    public SimulationThread(GameMap gameMap, SimulationClock clock, InputSource input, SnapshotExchange exchange) {
+        this.gameMap = gameMap;
+        this.clock = clock;
+        this.input = input;
+        this.exchange = exchange;
+    }
+
+    /**
+     * Démarre la simulation.
+     */
+    public void start() {
+        running = true;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Arrête la simulation et attend la fin du pas en cours.
+     */
+    public void stop() {
+        running = false;
+        if (thread != null && thread != Thread.currentThread()) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Boucle de simulation : exécute un pas à chaque échéance puis publie l'état de la carte.
+     */
+    @Override
+    public void run() {
+        long stepNanos = Math.round(1_000_000_000.0 / clock.getTicksPerSecond());
+        long nextStep = System.nanoTime();
+
+        while (running) {
+            long now = System.nanoTime();
+            if (now < nextStep) {
+                LockSupport.parkNanos(nextStep - now);
+                continue;
+            }
+
+            gameMap.step(clock, input);
+            exchange.publish(gameMap, clock.getTick());
+
+            nextStep += stepNanos;
+            if (now - nextStep > MAX_LAG_STEPS * stepNanos) {
+                nextStep = now; // Abandonner le retard après un gel
+            }
+
+            if (gameMap.getPlayer().getLives() <= 0
+                || gameMap.isPlayerInEndZone(gameMap.getPlayer().getX(), gameMap.getPlayer().getY())) {
+                running = false;
+            }
+        }
+    }
+
+    /**
+     * Calcule la fraction du pas suivant écoulée depuis la capture d'un instantané.
+     *
+     * @param snapshot L'instantané affiché.
+     * @return Une valeur comprise entre {@code 0} et {@code 1}.
+     */
+    public float getAlpha(GameSnapshot snapshot) {
+        float elapsed = (System.nanoTime() - snapshot.getCaptureNanos()) * clock.getTicksPerSecond() / 1e9f;
+        return Math.max(0f, Math.min(1f, elapsed));
+    }
+}
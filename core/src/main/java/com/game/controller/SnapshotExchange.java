@@ -0,0 +1,69 @@
+package com.game.controller;
+
+import com.game.model.GameMap;
+import com.game.model.GameSnapshot;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * La classe {@code SnapshotExchange} transmet les instantanés de la simulation au rendu sans verrou.
+ *
+ * <p>Trois instantanés circulent entre les deux threads :</p>
+ * <ul>
+ *   <li>l'instantané arrière, rempli par le thread de simulation</li>
+ *   <li>l'instantané avant, lu par le thread de rendu</li>
+ *   <li>l'instantané publié, échangé de façon atomique entre les deux</li>
+ * </ul>
+ *
+ * <p>Chaque thread ne manipule que l'instantané qu'il détient : le rendu n'observe jamais un
+ * instantané en cours d'écriture, et aucun des deux threads n'attend l'autre.</p>
+ */
+public class SnapshotExchange {
+    /** Dernier instantané publié par la simulation. */
+    private final AtomicReference<GameSnapshot> published;
+    /** Instantané rempli par le thread de simulation. */
+    private GameSnapshot back;
+    /** Instantané lu par le thread de rendu. */
+    private GameSnapshot front;
+
+    /**
+     * Initialise l'échange pour une carte et publie son état initial.
+     *
+     * @param gameMap La carte simulée.
+     */
+    public SnapshotExchange(GameMap gameMap) {
+        back = new GameSnapshot(gameMap);
+        front = new GameSnapshot(gameMap);
+        GameSnapshot initial = new GameSnapshot(gameMap);
+        initial.capture(gameMap, 0);
+        published = new AtomicReference<>(initial);
+    }
+
+    /**
+     * Capture l'état de la carte et le publie pour le rendu.
+     *
+     * <p>Cette méthode doit être appelée uniquement par le thread de simulation.</p>
+     *
+     * @param gameMap La carte simulée.
+     * @param tick    Le numéro du pas de simulation capturé.
+     */
+    public void publish(GameMap gameMap, long tick) {
+        back.capture(gameMap, tick);
+        back = published.getAndSet(back);
+    }
+
+    /**
+     * Retourne l'instantané le plus récent disponible pour le rendu.
+     *
+     * <p>Cette méthode doit être appelée uniquement par le thread de rendu. L'instantané
+     * retourné reste valide jusqu'au prochain appel.</p>
+     *
+     * @return Le dernier instantané publié.
+     */
+    public GameSnapshot latest() {
+        if (published.get().getTick() > front.getTick()) {
+            front = published.getAndSet(front);
+        }
+        return front;
+    }
+}
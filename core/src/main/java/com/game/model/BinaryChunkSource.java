@@ -0,0 +1,76 @@
+package com.game.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * La classe {@code BinaryChunkSource} lit les murs des morceaux d'une carte infinie compilée
+ * ({@link MapFormat#VERSION_CHUNKED}) à la demande.
+ *
+ * <p>Les morceaux sont rangés à la suite dans le fichier, tous de la même taille : la position
+ * d'un morceau se calcule sans table d'index. Le fichier est de préférence projeté en mémoire,
+ * si bien que seules les pages des morceaux lus sont chargées par le système.</p>
+ */
+class BinaryChunkSource implements ChunkSource {
+    private final ByteBuffer buffer;
+    /** Position du premier morceau dans le fichier (en octets). */
+    private final int dataOffset;
+    /** Nombre de {@code long} occupés par un morceau. */
+    private final int longsPerChunk;
+    private final int chunkWidth;
+    private final int chunkHeight;
+    private final int columns;
+    private final int rows;
+
+    BinaryChunkSource(ByteBuffer buffer, int dataOffset, int chunkWidth, int chunkHeight, int columns, int rows) {
+        this.buffer = buffer;
+        this.dataOffset = dataOffset;
+        this.longsPerChunk = (chunkWidth * chunkHeight + 63) >>> 6;
+        this.chunkWidth = chunkWidth;
+        this.chunkHeight = chunkHeight;
+        this.columns = columns;
+        this.rows = rows;
+
+        long end = dataOffset + (long) columns * rows * longsPerChunk * Long.BYTES;
+        if (end > buffer.limit()) {
+            throw new IllegalArgumentException("Carte compilée tronquée : " + end + " octets attendus, "
+                + buffer.limit() + " trouvés");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Les lectures sont absolues : le tampon peut être partagé entre plusieurs threads.</p>
+     */
+    @Override
+    public long[] readChunk(int chunkX, int chunkY) {
+        int position = dataOffset + (chunkY * columns + chunkX) * longsPerChunk * Long.BYTES;
+        long[] bits = new long[longsPerChunk];
+        boolean empty = true;
+        for (int i = 0; i < longsPerChunk; i++) {
+            bits[i] = buffer.getLong(position + i * Long.BYTES);
+            empty &= bits[i] == 0;
+        }
+        return empty ? null : bits;
+    }
+
+    @Override
+    public int getChunkWidth() {
+        return chunkWidth;
+    }
+
+    @Override
+    public int getChunkHeight() {
+        return chunkHeight;
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,165 @@
+package com.game.model;
+
+/**
+ * La classe {@code BoxSweep} teste le déplacement continu d'une boîte alignée sur les axes
+ * contre les murs d'une grille.
+ *
+ * <p>Au lieu de tester seulement la position d'arrivée, la boîte est balayée le long de son
+ * déplacement : chaque mur des cases traversées donne l'instant où la boîte commence à le
+ * chevaucher, et le premier de ces instants est retenu avec la normale de la face touchée. Un
+ * déplacement long ne peut donc pas traverser un mur, quelle que soit la durée du pas.</p>
+ *
+ * <p>Comme dans {@link WallGrid#overlaps}, les bords sont exclusifs : une boîte peut glisser le
+ * long d'un mur qu'elle touche. Les murs que la boîte chevauche déjà au départ sont ignorés, pour
+ * qu'elle puisse en sortir.</p>
+ *
+ * <p>Un même objet est réutilisé d'un déplacement à l'autre ; chaque entité garde le sien, ce qui
+ * permet de balayer depuis plusieurs threads.</p>
+ */
+public final class BoxSweep {
+    /** Instant du premier contact, en fraction du déplacement ({@code 0} à {@code 1}). */
+    private float time;
+    /** Normale de la face du mur touchée : {@code -1}, {@code 0} ou {@code 1} sur chaque axe. */
+    private int normalX;
+    private int normalY;
+    /** Position de la boîte au moment du contact. */
+    private float contactX;
+    private float contactY;
+    /** Indique si le contact trouvé touche un coin (même instant sur les deux axes). */
+    private boolean corner;
+
+    /**
+     * Balaye une boîte le long d'un déplacement et cherche le premier mur touché.
+     *
+     * @param grid   La grille des murs.
+     * @param x      La coordonnée X du coin inférieur gauche de la boîte.
+     * @param y      La coordonnée Y du coin inférieur gauche de la boîte.
+     * @param width  La largeur de la boîte.
+     * @param height La hauteur de la boîte.
+     * @param deltaX Le déplacement horizontal.
+     * @param deltaY Le déplacement vertical.
+     * @return {@code true} si un mur arrête la boîte avant la fin du déplacement, sinon {@code false}.
+     */
+    public boolean cast(WallGrid grid, float x, float y, float width, float height, float deltaX, float deltaY) {
+        time = 1;
+        normalX = 0;
+        normalY = 0;
+        corner = false;
+        if (deltaX == 0 && deltaY == 0) {
+            return false;
+        }
+
+        // Cases couvertes par la boîte sur tout son déplacement
+        int cellWidth = grid.getCellWidth();
+        int cellHeight = grid.getCellHeight();
+        int minX = (int) Math.floor(Math.min(x, x + deltaX) / cellWidth);
+        int minY = (int) Math.floor(Math.min(y, y + deltaY) / cellHeight);
+        int maxX = (int) Math.ceil((Math.max(x, x + deltaX) + width) / cellWidth) - 1;
+        int maxY = (int) Math.ceil((Math.max(y, y + deltaY) + height) / cellHeight) - 1;
+
+        for (int cellY = minY; cellY <= maxY; cellY++) {
+            for (int cellX = minX; cellX <= maxX; cellX++) {
+                if (grid.isWall(cellX, cellY)) {
+                    test(x, y, width, height, deltaX, deltaY,
+                        cellX * cellWidth, cellY * cellHeight, cellWidth, cellHeight);
+                }
+            }
+        }
+        if (normalX == 0 && normalY == 0) {
+            return false;
+        }
+
+        // Sur l'axe de la normale, la boîte est posée exactement contre la face du mur
+        if (normalX == 0) {
+            contactX = x + deltaX * time;
+        } else {
+            contactY = y + deltaY * time;
+        }
+        return true;
+    }
+
+    /**
+     * Calcule l'instant où la boîte commence à chevaucher un mur, et le retient s'il précède le
+     * contact déjà trouvé.
+     */
+    private void test(float x, float y, float width, float height, float deltaX, float deltaY,
+                      float wallX, float wallY, float wallWidth, float wallHeight) {
+        float enterX, exitX, enterY, exitY;
+        if (deltaX > 0) {
+            enterX = (wallX - (x + width)) / deltaX;
+            exitX = (wallX + wallWidth - x) / deltaX;
+        } else if (deltaX < 0) {
+            enterX = (wallX + wallWidth - x) / deltaX;
+            exitX = (wallX - (x + width)) / deltaX;
+        } else if (x < wallX + wallWidth && x + width > wallX) {
+            enterX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        } else {
+            return;
+        }
+        if (deltaY > 0) {
+            enterY = (wallY - (y + height)) / deltaY;
+            exitY = (wallY + wallHeight - y) / deltaY;
+        } else if (deltaY < 0) {
+            enterY = (wallY + wallHeight - y) / deltaY;
+            exitY = (wallY - (y + height)) / deltaY;
+        } else if (y < wallY + wallHeight && y + height > wallY) {
+            enterY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        } else {
+            return;
+        }
+
+        float enter = Math.max(enterX, enterY);
+        float exit = Math.min(exitX, exitY);
+        // Pas de chevauchement pendant le déplacement, ou mur déjà chevauché au départ
+        if (enter >= exit || enter < 0 || enter >= 1) {
+            return;
+        }
+        boolean touchesCorner = enterX == enterY;
+        // À instant égal, une face franche l'emporte sur un coin : la boîte glisse le long du mur
+        if (enter > time || (enter == time && (touchesCorner || !corner))) {
+            return;
+        }
+        time = enter;
+        corner = touchesCorner;
+        if (enterX > enterY || (touchesCorner && Math.abs(deltaX) >= Math.abs(deltaY))) {
+            normalX = deltaX > 0 ? -1 : 1;
+            normalY = 0;
+            contactX = deltaX > 0 ? wallX - width : wallX + wallWidth;
+        } else {
+            normalX = 0;
+            normalY = deltaY > 0 ? -1 : 1;
+            contactY = deltaY > 0 ? wallY - height : wallY + wallHeight;
+        }
+    }
+
+    /**
+     * Retourne l'instant du contact, en fraction du déplacement balayé.
+     *
+     * @return Un instant entre {@code 0} (contact immédiat) et {@code 1} (aucun contact).
+     */
+    public float getTime() {
+        return time;
+    }
+
+    /** @return La composante horizontale de la normale du mur touché ({@code -1}, {@code 0} ou {@code 1}). */
+    public int getNormalX() {
+        return normalX;
+    }
+
+    /** @return La composante verticale de la normale du mur touché ({@code -1}, {@code 0} ou {@code 1}). */
+    public int getNormalY() {
+        return normalY;
+    }
+
+    /** @return La coordonnée X de la boîte au moment du contact. */
+    public float getContactX() {
+        return contactX;
+    }
+
+    /** @return La coordonnée Y de la boîte au moment du contact. */
+    public float getContactY() {
+        return contactY;
+    }
+}
@@ -0,0 +1,176 @@
+package com.game.model;
+
+/**
+ * La classe {@code ChasingEnemy} représente un ennemi qui poursuit le joueur à travers le labyrinthe.
+ *
+ * <p>Près du joueur, l'ennemi suit le {@link FlowField} de la carte, partagé par tous les ennemis
+ * poursuivants : sa prochaine case y est lue en temps constant. Plus loin, son chemin est demandé
+ * au {@link PathFinder} de la carte.</p>
+ *
+ * <p>Le chemin est demandé par {@link #plan}, pendant la phase séquentielle de la mise à jour des
+ * ennemis. {@link #update} ne fait ensuite que lire le champ ou suivre le chemin, case par case,
+ * et ne touche qu'à l'état de l'ennemi : elle peut être répartie sur plusieurs cœurs comme celle
+ * des autres ennemis.</p>
+ *
+ * <p>Tant que le nouveau chemin n'est pas calculé, l'ennemi continue de suivre l'ancien.</p>
+ */
+public class ChasingEnemy extends Enemy {
+    /**
+     * Un chemin est redemandé lorsque le joueur s'est éloigné de son arrivée de plus d'une case
+     * pour {@code REPLAN_RATIO} cases qui restent à parcourir.
+     */
+    private static final int REPLAN_RATIO = 4;
+
+    /** Indique si l'ennemi a reçu sa première case, au premier pas de simulation. */
+    private boolean placed;
+    /** Case vers laquelle l'ennemi se dirige, ou sur laquelle il se trouve. */
+    private int cellX;
+    private int cellY;
+    /** Chemin suivi loin du joueur, ou {@code null}. */
+    private GridPath path;
+    /** Indice de la case {@link #cellX}, {@link #cellY} dans le chemin suivi. */
+    private int pathIndex;
+    /** Case du joueur visée par le chemin suivi. */
+    private int pathGoalX;
+    private int pathGoalY;
+
+    /**
+     * Initialise un nouvel ennemi poursuivant avec ses coordonnées et sa texture.
+     *
+     * @param store       Le stockage des ennemis de la carte.
+     * @param x           La coordonnée X initiale de l'ennemi.
+     * @param y           La coordonnée Y initiale de l'ennemi.
+     * @param texturePath Le chemin de la texture de l'ennemi.
+     */
+    public ChasingEnemy(EntityStore store, float x, float y, String texturePath) {
+        super(store, x, y, texturePath, texturePath, false);
+        store.setFlag(handle, EntityStore.CUSTOM_UPDATE, true);
+    }
+
+    /**
+     * Choisit comment rejoindre le joueur : par le champ de flux si la case de l'ennemi y est
+     * atteinte, sinon par un chemin, redemandé lorsque le joueur s'est assez éloigné de son arrivée.
+     *
+     * <p>Le chemin part de la case vers laquelle l'ennemi se dirige déjà : l'ennemi peut passer
+     * de l'ancien chemin au nouveau sans revenir en arrière.</p>
+     *
+     * @param pathFinder Le service de recherche de chemin de la carte.
+     * @param flowField  Le champ de flux de la carte, à jour.
+     * @param goalX      La colonne de la case du joueur.
+     * @param goalY      La ligne de la case du joueur.
+     * @param tileWidth  La largeur d'une tuile (en pixels).
+     * @param tileHeight La hauteur d'une tuile (en pixels).
+     */
+    void plan(PathFinder pathFinder, FlowField flowField, int goalX, int goalY, int tileWidth, int tileHeight) {
+        if (!placed) {
+            cellX = Math.round(getX() / tileWidth);
+            cellY = Math.round(getY() / tileHeight);
+            placed = true;
+        }
+        if (flowField.reaches(cellX, cellY)) {
+            path = null;
+            return;
+        }
+        if (path != null && Math.abs(pathGoalX - goalX) + Math.abs(pathGoalY - goalY)
+            <= (path.getLength() - pathIndex) / REPLAN_RATIO) {
+            return; // Le joueur a peu bougé par rapport à la distance qui reste à parcourir
+        }
+        GridPath next = pathFinder.request(cellX, cellY, goalX, goalY);
+        if (next != null) {
+            path = next;
+            pathIndex = 0;
+            pathGoalX = goalX;
+            pathGoalY = goalY;
+        }
+    }
+
+    /**
+     * Fait avancer l'ennemi de case en case, d'abord horizontalement puis verticalement vers
+     * chaque case.
+     *
+     * @param deltaTime Le temps écoulé depuis la dernière mise à jour (en secondes).
+     * @param gameMap   La carte du jeu, qui fournit la taille des tuiles et le champ de flux.
+     */
+    @Override
+    public void update(float deltaTime, GameMap gameMap) {
+        if (!placed) {
+            return;
+        }
+        float remaining = getSpeed() * deltaTime;
+        while (remaining > 0) {
+            float targetX = cellX * gameMap.getTileWidth();
+            float targetY = cellY * gameMap.getTileHeight();
+            remaining = approachX(targetX, remaining);
+            remaining = approachY(targetY, remaining);
+            if (getX() != targetX || getY() != targetY || !advance(gameMap.getFlowField())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Choisit la case suivante, une fois la case courante atteinte.
+     *
+     * @param flowField Le champ de flux de la carte.
+     * @return {@code true} si l'ennemi a une nouvelle case à rejoindre, sinon {@code false}.
+     */
+    private boolean advance(FlowField flowField) {
+        if (flowField.reaches(cellX, cellY)) {
+            int stepX = flowField.getStepX(cellX, cellY);
+            int stepY = flowField.getStepY(cellX, cellY);
+            path = null;
+            cellX += stepX;
+            cellY += stepY;
+            return stepX != 0 || stepY != 0;
+        }
+        if (path != null && pathIndex + 1 < path.getLength()) {
+            pathIndex++;
+            cellX = path.getX(pathIndex);
+            cellY = path.getY(pathIndex);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Rapproche l'ennemi d'une coordonnée X, en s'y plaçant exactement s'il l'atteint.
+     *
+     * @return La distance qui reste à parcourir pendant ce pas.
+     */
+    private float approachX(float targetX, float distance) {
+        float x = getX();
+        float gap = Math.abs(targetX - x);
+        if (gap <= distance) {
+            store.setX(handle, targetX);
+            return distance - gap;
+        }
+        move(Math.signum(targetX - x) * distance, 0);
+        return 0;
+    }
+
+    /**
+     * Rapproche l'ennemi d'une coordonnée Y, en s'y plaçant exactement s'il l'atteint.
+     *
+     * @return La distance qui reste à parcourir pendant ce pas.
+     */
+    private float approachY(float targetY, float distance) {
+        float y = getY();
+        float gap = Math.abs(targetY - y);
+        if (gap <= distance) {
+            store.setY(handle, targetY);
+            return distance - gap;
+        }
+        move(0, Math.signum(targetY - y) * distance);
+        return 0;
+    }
+
+    /**
+     * Remet l'ennemi dans un état capturé par un {@link MapState} et oublie son chemin.
+     */
+    @Override
+    void restore(float x, float y, float velocityX, float velocityY) {
+        super.restore(x, y, velocityX, velocityY);
+        placed = false;
+        path = null;
+    }
+}
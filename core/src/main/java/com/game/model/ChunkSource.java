@@ -0,0 +1,31 @@
+package com.game.model;
+
+/**
+ * L'interface {@code ChunkSource} fournit les murs d'une carte infinie, morceau par morceau.
+ *
+ * <p>Une carte infinie est découpée en morceaux de {@link #getChunkWidth()} x {@link #getChunkHeight()}
+ * cases. Les murs d'un morceau sont décrits par un bit par case, ligne par ligne depuis le bas du
+ * morceau. Une source peut être lue depuis plusieurs threads à la fois.</p>
+ */
+interface ChunkSource {
+    /** @return La largeur d'un morceau (en nombre de cases). */
+    int getChunkWidth();
+
+    /** @return La hauteur d'un morceau (en nombre de cases). */
+    int getChunkHeight();
+
+    /** @return Le nombre de colonnes de morceaux. */
+    int getColumns();
+
+    /** @return Le nombre de lignes de morceaux. */
+    int getRows();
+
+    /**
+     * Lit les murs d'un morceau.
+     *
+     * @param chunkX La colonne du morceau.
+     * @param chunkY La ligne du morceau (depuis le bas de la carte).
+     * @return Les bits des murs du morceau, à ne pas modifier, ou {@code null} s'il n'a aucun mur.
+     */
+    long[] readChunk(int chunkX, int chunkY);
+}
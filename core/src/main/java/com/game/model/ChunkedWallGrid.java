@@ -0,0 +1,385 @@
+package com.game.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * La classe {@code ChunkedWallGrid} représente les murs d'une carte infinie, dont seuls les
+ * morceaux proches du joueur sont gardés en mémoire.
+ *
+ * <p>La grille suit un point de focalisation, la position du joueur, fixé par
+ * {@link #focus(float, float)} à chaque pas de simulation :</p>
+ * <ul>
+ *   <li>les morceaux à moins de {@link #ACTIVE_RADIUS} morceaux du joueur sont chargés avant le
+ *   pas, sur le thread de la simulation : la simulation n'y rencontre jamais de morceau absent
+ *   et reste déterministe</li>
+ *   <li>les morceaux jusqu'à {@link #PREFETCH_RADIUS} sont chargés à l'avance sur un thread
+ *   d'arrière-plan, pour que le chargement synchrone ne trouve presque jamais rien à lire</li>
+ *   <li>les morceaux au-delà de {@link #KEEP_RADIUS} sont libérés</li>
+ * </ul>
+ *
+ * <p>Le nombre de morceaux en mémoire est donc borné, quelle que soit la taille de la carte.
+ * Les cases d'un morceau absent sont considérées comme des murs : rien ne peut y entrer. Seules
+ * les entités à moins de {@link #SIMULATION_RADIUS} morceaux du joueur sont mises à jour, leurs
+ * tests de collision restant ainsi dans les morceaux actifs.</p>
+ *
+ * <p>Les morceaux en mémoire peuvent être lus depuis le thread de rendu pendant que la simulation
+ * avance sur un autre thread.</p>
+ */
+public class ChunkedWallGrid implements WallGrid {
+    /** Rayon (en morceaux) des entités mises à jour autour du joueur. */
+    public static final int SIMULATION_RADIUS = 1;
+    /** Rayon (en morceaux) des morceaux chargés avant chaque pas. */
+    public static final int ACTIVE_RADIUS = SIMULATION_RADIUS + 1;
+    /** Rayon (en morceaux) des morceaux préchargés en arrière-plan. */
+    public static final int PREFETCH_RADIUS = ACTIVE_RADIUS + 1;
+    /** Rayon (en morceaux) au-delà duquel les morceaux sont libérés. */
+    public static final int KEEP_RADIUS = PREFETCH_RADIUS + 1;
+
+    /** Bits d'un morceau chargé qui ne contient aucun mur. */
+    private static final long[] NO_WALLS = new long[0];
+
+    /** Thread de chargement des morceaux, partagé par toutes les cartes et créé au premier besoin. */
+    private static ExecutorService loader;
+
+    private final ChunkSource source;
+    private final int cellWidth;
+    private final int cellHeight;
+    private final int chunkWidth;
+    private final int chunkHeight;
+    private final int columns;
+    private final int rows;
+
+    /** Morceaux en mémoire, par indice de morceau. */
+    private final Map<Integer, long[]> resident = new ConcurrentHashMap<>();
+    /** Morceaux en cours de chargement en arrière-plan. */
+    private final Set<Integer> pending = ConcurrentHashMap.newKeySet();
+    /** Colonne du morceau de focalisation. */
+    private volatile int focusX = Integer.MIN_VALUE;
+    /** Ligne du morceau de focalisation. */
+    private volatile int focusY = Integer.MIN_VALUE;
+    /** Version de la grille, changée à chaque déplacement de la zone des morceaux connus. */
+    private volatile int version;
+    /** Indique si la grille a été fermée : plus aucun morceau n'est chargé. */
+    private volatile boolean closed;
+
+    /**
+     * Initialise une grille vide sur une source de morceaux. Aucun morceau n'est chargé avant
+     * le premier appel à {@link #focus(float, float)}.
+     *
+     * @param source     La source des murs des morceaux.
+     * @param cellWidth  La largeur d'une case (en pixels).
+     * @param cellHeight La hauteur d'une case (en pixels).
+     */
+    ChunkedWallGrid(ChunkSource source, int cellWidth, int cellHeight) {
+        if (source == null) {
+            throw new IllegalArgumentException("ChunkSource ne peut pas être null");
+        }
+        if (cellWidth <= 0 || cellHeight <= 0 || source.getChunkWidth() <= 0 || source.getChunkHeight() <= 0
+            || (long) source.getColumns() * source.getRows() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dimensions de grille invalides : " + source.getColumns() + "x"
+                + source.getRows() + " morceaux de " + source.getChunkWidth() + "x" + source.getChunkHeight());
+        }
+        this.source = source;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.chunkWidth = source.getChunkWidth();
+        this.chunkHeight = source.getChunkHeight();
+        this.columns = source.getColumns();
+        this.rows = source.getRows();
+    }
+
+    /**
+     * Déplace le point de focalisation et met à jour les morceaux en mémoire.
+     *
+     * <p>Tant que la position reste dans le même morceau, l'appel ne fait rien. Sinon, les
+     * morceaux actifs manquants sont lus immédiatement, les morceaux suivants sont demandés au
+     * thread de chargement et les morceaux trop éloignés sont libérés.</p>
+     *
+     * @param x La coordonnée X du point de focalisation (en pixels).
+     * @param y La coordonnée Y du point de focalisation (en pixels).
+     */
+    public void focus(float x, float y) {
+        if (closed) {
+            return;
+        }
+        int chunkX = chunkColumn(x);
+        int chunkY = chunkRow(y);
+        if (chunkX == focusX && chunkY == focusY) {
+            return;
+        }
+        focusX = chunkX;
+        focusY = chunkY;
+        version++;
+
+        // Libérer les morceaux trop éloignés
+        resident.keySet().removeIf(key -> distance(key % columns, key / columns) > KEEP_RADIUS);
+
+        // Charger les morceaux actifs, du plus proche au plus éloigné
+        for (int radius = 0; radius <= PREFETCH_RADIUS; radius++) {
+            for (int cy = chunkY - radius; cy <= chunkY + radius; cy++) {
+                for (int cx = chunkX - radius; cx <= chunkX + radius; cx++) {
+                    if (Math.max(Math.abs(cx - chunkX), Math.abs(cy - chunkY)) != radius
+                        || cx < 0 || cy < 0 || cx >= columns || cy >= rows) {
+                        continue;
+                    }
+                    if (radius <= ACTIVE_RADIUS) {
+                        loadChunk(cx, cy);
+                    } else {
+                        requestChunk(cx, cy);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Charge un morceau immédiatement s'il n'est pas déjà en mémoire.
+     */
+    private void loadChunk(int chunkX, int chunkY) {
+        resident.computeIfAbsent(chunkY * columns + chunkX, key -> readChunk(chunkX, chunkY));
+    }
+
+    /**
+     * Demande le chargement d'un morceau au thread de chargement, s'il n'est ni en mémoire ni
+     * déjà demandé.
+     */
+    private void requestChunk(int chunkX, int chunkY) {
+        int key = chunkY * columns + chunkX;
+        if (!resident.containsKey(key) && pending.add(key)) {
+            loader().execute(() -> prefetchChunk(chunkX, chunkY, key));
+        }
+    }
+
+    /**
+     * Lit un morceau sur le thread de chargement, s'il est toujours proche du joueur.
+     */
+    private void prefetchChunk(int chunkX, int chunkY, int key) {
+        try {
+            if (!closed && distance(chunkX, chunkY) <= KEEP_RADIUS) {
+                loadChunk(chunkX, chunkY);
+                if (closed) {
+                    resident.clear(); // Grille fermée pendant la lecture
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Erreur lors du chargement du morceau " + chunkX + "," + chunkY + " : " + e.getMessage());
+        } finally {
+            pending.remove(key);
+        }
+    }
+
+    private long[] readChunk(int chunkX, int chunkY) {
+        long[] bits = source.readChunk(chunkX, chunkY);
+        return bits != null ? bits : NO_WALLS;
+    }
+
+    /**
+     * Vérifie si une position est assez proche du joueur pour que l'entité qui s'y trouve
+     * soit mise à jour.
+     *
+     * @param x La coordonnée X de l'entité (en pixels).
+     * @param y La coordonnée Y de l'entité (en pixels).
+     * @return {@code true} si l'entité est dans la zone simulée, sinon {@code false}.
+     */
+    public boolean isSimulated(float x, float y) {
+        return distance(chunkColumn(x), chunkRow(y)) <= SIMULATION_RADIUS;
+    }
+
+    /**
+     * Recherche les entités de la zone simulée dans un index spatial.
+     *
+     * <p>Seules les cases de l'index proches du joueur sont parcourues : le coût ne dépend pas
+     * du nombre total d'entités de la carte.</p>
+     *
+     * @param index  L'index spatial des entités.
+     * @param result La liste vidée puis remplie avec les entités de la zone simulée.
+     * @param <T>    Le type d'entité indexé.
+     * @return La liste {@code result}.
+     */
+    public <T extends Entity> List<T> querySimulated(SpatialHash<T> index, List<T> result) {
+        float chunkPixelWidth = (float) chunkWidth * cellWidth;
+        float chunkPixelHeight = (float) chunkHeight * cellHeight;
+        index.query((focusX - SIMULATION_RADIUS) * chunkPixelWidth, (focusY - SIMULATION_RADIUS) * chunkPixelHeight,
+            (2 * SIMULATION_RADIUS + 1) * chunkPixelWidth, (2 * SIMULATION_RADIUS + 1) * chunkPixelHeight, result);
+        result.removeIf(entity -> !isSimulated(entity.getX(), entity.getY()));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Les cases hors de la carte sont libres ; les cases d'un morceau absent de la mémoire
+     * sont des murs.</p>
+     */
+    @Override
+    public boolean isWall(int cellX, int cellY) {
+        if (cellX < 0 || cellY < 0 || cellX >= getWidth() || cellY >= getHeight()) {
+            return false;
+        }
+        long[] bits = resident.get((cellY / chunkHeight) * columns + cellX / chunkWidth);
+        return bits == null || isSet(bits, cellX, cellY);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Seules les cases des morceaux actifs, à moins de {@link #ACTIVE_RADIUS} morceaux du
+     * joueur, sont connues. Un morceau préchargé plus loin est peut-être déjà en mémoire, mais
+     * selon l'avancement du thread de chargement : un calcul de la simulation qui s'y fierait ne
+     * serait plus déterministe.</p>
+     */
+    @Override
+    public boolean isKnown(int cellX, int cellY) {
+        if (cellX < 0 || cellY < 0 || cellX >= getWidth() || cellY >= getHeight()) {
+            return true;
+        }
+        int chunkX = cellX / chunkWidth;
+        int chunkY = cellY / chunkHeight;
+        return distance(chunkX, chunkY) <= ACTIVE_RADIUS && resident.containsKey(chunkY * columns + chunkX);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Les murs d'une carte infinie ne changent jamais, mais les cases connues
+     * ({@link #isKnown}) suivent le joueur : la version change chaque fois que le joueur entre
+     * dans un autre morceau, pour qu'un calcul limité aux cases connues soit refait.</p>
+     */
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Vérifie si une case contient un mur déjà chargé. Utilisée par le rendu, qui ne dessine
+     * pas les morceaux absents.
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case (depuis le bas de la carte).
+     * @return {@code true} si la case contient un mur et que son morceau est en mémoire.
+     */
+    public boolean isLoadedWall(int cellX, int cellY) {
+        if (cellX < 0 || cellY < 0 || cellX >= getWidth() || cellY >= getHeight()) {
+            return false;
+        }
+        long[] bits = resident.get((cellY / chunkHeight) * columns + cellX / chunkWidth);
+        return bits != null && isSet(bits, cellX, cellY);
+    }
+
+    private boolean isSet(long[] bits, int cellX, int cellY) {
+        if (bits.length == 0) {
+            return false;
+        }
+        int index = (cellY % chunkHeight) * chunkWidth + cellX % chunkWidth;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Libère tous les morceaux en mémoire.
+     */
+    public void clear() {
+        resident.clear();
+        focusX = Integer.MIN_VALUE;
+        focusY = Integer.MIN_VALUE;
+        version++;
+    }
+
+    /**
+     * Ferme la grille : les morceaux en mémoire sont libérés et les lectures encore demandées au
+     * thread de chargement, partagé par toutes les cartes, ne chargent plus rien.
+     */
+    public void close() {
+        closed = true;
+        clear();
+    }
+
+    /**
+     * Distance (en morceaux, selon la norme infinie) entre un morceau et le morceau de focalisation.
+     */
+    private int distance(int chunkX, int chunkY) {
+        long distance = Math.max(Math.abs((long) chunkX - focusX), Math.abs((long) chunkY - focusY));
+        return (int) Math.min(distance, Integer.MAX_VALUE);
+    }
+
+    private int chunkColumn(float x) {
+        return Math.floorDiv((int) Math.floor(x / cellWidth), chunkWidth);
+    }
+
+    private int chunkRow(float y) {
+        return Math.floorDiv((int) Math.floor(y / cellHeight), chunkHeight);
+    }
+
+    private static synchronized ExecutorService loader() {
+        if (loader == null) {
+            loader = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "chunk-loader");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        }
+        return loader;
+    }
+
+    /**
+     * Retourne le nombre de morceaux actuellement en mémoire.
+     *
+     * @return Le nombre de morceaux chargés.
+     */
+    public int getResidentChunkCount() {
+        return resident.size();
+    }
+
+    /**
+     * Retourne la demi-largeur (en pixels) de la zone autour du morceau du joueur dont les
+     * morceaux sont toujours chargés.
+     *
+     * @return La demi-largeur de la zone active.
+     */
+    public float getActiveExtentX() {
+        return ACTIVE_RADIUS * chunkWidth * cellWidth;
+    }
+
+    /**
+     * Retourne la demi-hauteur (en pixels) de la zone autour du morceau du joueur dont les
+     * morceaux sont toujours chargés.
+     *
+     * @return La demi-hauteur de la zone active.
+     */
+    public float getActiveExtentY() {
+        return ACTIVE_RADIUS * chunkHeight * cellHeight;
+    }
+
+    @Override
+    public int getWidth() {
+        return columns * chunkWidth;
+    }
+
+    @Override
+    public int getHeight() {
+        return rows * chunkHeight;
+    }
+
+    @Override
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    @Override
+    public int getCellHeight() {
+        return cellHeight;
+    }
+
+    public int getChunkWidth() {
+        return chunkWidth;
+    }
+
+    public int getChunkHeight() {
+        return chunkHeight;
+    }
+}
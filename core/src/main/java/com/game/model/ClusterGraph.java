@@ -0,0 +1,522 @@
+package com.game.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * La classe {@code ClusterGraph} calcule des chemins sur de très grandes cartes par une recherche
+ * hiérarchique (HPA*).
+ *
+ * <p>La grille des murs est découpée en groupes de {@link #CLUSTER_SIZE} × {@link #CLUSTER_SIZE}
+ * cases. Au chargement, les passages entre deux groupes voisins deviennent des nœuds d'un graphe
+ * abstrait : deux nœuds d'un même groupe sont reliés par la longueur du plus court chemin qui les
+ * relie dans le groupe, et les deux côtés d'un passage par une arête de longueur {@code 1}.</p>
+ *
+ * <p>Une recherche relie d'abord le départ et l'arrivée aux nœuds de leur groupe, cherche un
+ * chemin dans le graphe abstrait avec A*, puis détaille chaque arête du chemin abstrait par une
+ * recherche limitée à un seul groupe. Le chemin obtenu n'est pas toujours le plus court, mais il
+ * en est proche, et son coût dépend du nombre de groupes traversés plutôt que du nombre de cases
+ * de la carte.</p>
+ *
+ * <p>Le graphe est immuable après sa construction, mais les recherches réutilisent une mémoire de
+ * travail : une instance ne doit être utilisée que par un thread à la fois.</p>
+ */
+public class ClusterGraph {
+    /** Côté d'un groupe de cases (en cases). */
+    public static final int CLUSTER_SIZE = 32;
+
+    /** Longueur d'un passage à partir de laquelle ses deux extrémités deviennent des nœuds. */
+    private static final int LONG_ENTRANCE = 6;
+    /** Décalages des quatre voisins d'une case : droite, gauche, haut, bas. */
+    private static final int[] NEIGHBOUR_X = {1, -1, 0, 0};
+    private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1};
+
+    /** Grille des murs sur laquelle les chemins sont calculés. */
+    private final WallGrid grid;
+    /** Nombre de groupes sur chaque axe. */
+    private final int clustersX;
+    private final int clustersY;
+
+    /** Nombre de nœuds du graphe abstrait. */
+    private final int nodeCount;
+    /** Case de chaque nœud. */
+    private final int[] nodeX;
+    private final int[] nodeY;
+    /** Nœuds de chaque groupe : ceux du groupe {@code c} vont de {@code clusterStart[c]} à {@code clusterStart[c + 1]}. */
+    private final int[] clusterStart;
+    private final int[] clusterNodes;
+    /** Arêtes de chaque nœud : celles du nœud {@code n} vont de {@code edgeStart[n]} à {@code edgeStart[n + 1]}. */
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final int[] edgeCost;
+
+    // ----- Mémoire de travail des recherches -----
+
+    /** Numéro de la recherche dans un groupe : une case n'est valide que si sa marque lui est égale. */
+    private int localGeneration;
+    private final int[] localStamp = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final int[] localDistance = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final int[] localParent = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    private final int[] localQueue = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+    /** Coin inférieur gauche et taille du groupe de la dernière recherche locale. */
+    private int localX;
+    private int localY;
+    private int localWidth;
+
+    /** Numéro de la recherche abstraite : un nœud n'est valide que si sa marque lui est égale. */
+    private int generation;
+    private final int[] openStamp;
+    private final int[] closedStamp;
+    private final int[] cost;
+    private final int[] parent;
+    /** Marque et distance jusqu'à l'arrivée des nœuds du groupe d'arrivée qui l'atteignent. */
+    private final int[] goalStamp;
+    private final int[] goalCost;
+    private final NodeHeap heap = new NodeHeap(1024);
+    /** Cases du chemin en construction. */
+    private int[] pathX = new int[256];
+    private int[] pathY = new int[256];
+    private int pathLength;
+    /** Nombre de cases et de nœuds développés par la dernière recherche. */
+    private int lastExpansions;
+
+    /**
+     * Construit le graphe abstrait d'une grille des murs finie.
+     *
+     * @param grid La grille des murs, entièrement en mémoire.
+     */
+    public ClusterGraph(WallGrid grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("WallGrid ne peut pas être null");
+        }
+        this.grid = grid;
+        this.clustersX = (grid.getWidth() + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+        this.clustersY = (grid.getHeight() + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+
+        // Passages entre groupes voisins
+        Map<Integer, Integer> nodeOfCell = new HashMap<>();
+        IntList xs = new IntList();
+        IntList ys = new IntList();
+        IntList interEdges = new IntList();
+        for (int cy = 0; cy < clustersY; cy++) {
+            for (int cx = 0; cx < clustersX; cx++) {
+                if (cx + 1 < clustersX) {
+                    findEntrances(cx, cy, true, nodeOfCell, xs, ys, interEdges);
+                }
+                if (cy + 1 < clustersY) {
+                    findEntrances(cx, cy, false, nodeOfCell, xs, ys, interEdges);
+                }
+            }
+        }
+        nodeCount = xs.size();
+        nodeX = xs.toArray();
+        nodeY = ys.toArray();
+
+        // Nœuds de chaque groupe, dans l'ordre de leur création
+        clusterStart = new int[clustersX * clustersY + 1];
+        for (int node = 0; node < nodeCount; node++) {
+            clusterStart[clusterOf(nodeX[node], nodeY[node]) + 1]++;
+        }
+        for (int c = 0; c < clustersX * clustersY; c++) {
+            clusterStart[c + 1] += clusterStart[c];
+        }
+        clusterNodes = new int[nodeCount];
+        int[] fill = Arrays.copyOf(clusterStart, clusterStart.length - 1);
+        for (int node = 0; node < nodeCount; node++) {
+            clusterNodes[fill[clusterOf(nodeX[node], nodeY[node])]++] = node;
+        }
+
+        // Arêtes : passages, puis chemins entre les nœuds d'un même groupe
+        IntList edges = interEdges;
+        for (int c = 0; c < clustersX * clustersY; c++) {
+            for (int i = clusterStart[c]; i < clusterStart[c + 1]; i++) {
+                int from = clusterNodes[i];
+                searchCluster(nodeX[from], nodeY[from]);
+                for (int j = clusterStart[c]; j < clusterStart[c + 1]; j++) {
+                    int to = clusterNodes[j];
+                    int distance = getLocalDistance(nodeX[to], nodeY[to]);
+                    if (to != from && distance > 0) {
+                        edges.add(from);
+                        edges.add(to);
+                        edges.add(distance);
+                    }
+                }
+            }
+        }
+
+        int edgeCount = edges.size() / 3;
+        edgeStart = new int[nodeCount + 1];
+        edgeTarget = new int[edgeCount];
+        edgeCost = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            edgeStart[edges.get(3 * e) + 1]++;
+        }
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStart[node + 1] += edgeStart[node];
+        }
+        fill = Arrays.copyOf(edgeStart, nodeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            int slot = fill[edges.get(3 * e)]++;
+            edgeTarget[slot] = edges.get(3 * e + 1);
+            edgeCost[slot] = edges.get(3 * e + 2);
+        }
+
+        openStamp = new int[nodeCount + 2];
+        closedStamp = new int[nodeCount + 2];
+        cost = new int[nodeCount + 2];
+        parent = new int[nodeCount + 2];
+        goalStamp = new int[nodeCount + 2];
+        goalCost = new int[nodeCount + 2];
+    }
+
+    /**
+     * Cherche les passages sur la frontière droite ou haute d'un groupe et crée leurs nœuds.
+     *
+     * <p>Un passage est une suite de cases libres des deux côtés de la frontière. Un passage court
+     * donne un nœud de chaque côté, en son milieu ; un passage long en donne à ses deux extrémités.</p>
+     */
+    private void findEntrances(int cx, int cy, boolean vertical, Map<Integer, Integer> nodeOfCell,
+                               IntList xs, IntList ys, IntList edges) {
+        int length = vertical
+            ? Math.min(CLUSTER_SIZE, grid.getHeight() - cy * CLUSTER_SIZE)
+            : Math.min(CLUSTER_SIZE, grid.getWidth() - cx * CLUSTER_SIZE);
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean open = i < length && isOpenCrossing(cx, cy, vertical, i);
+            if (open && runStart < 0) {
+                runStart = i;
+            } else if (!open && runStart >= 0) {
+                int runEnd = i - 1;
+                if (runEnd - runStart + 1 >= LONG_ENTRANCE) {
+                    addCrossing(cx, cy, vertical, runStart, nodeOfCell, xs, ys, edges);
+                    addCrossing(cx, cy, vertical, runEnd, nodeOfCell, xs, ys, edges);
+                } else {
+                    addCrossing(cx, cy, vertical, (runStart + runEnd) / 2, nodeOfCell, xs, ys, edges);
+                }
+                runStart = -1;
+            }
+        }
+    }
+
+    private boolean isOpenCrossing(int cx, int cy, boolean vertical, int i) {
+        if (vertical) {
+            int x = (cx + 1) * CLUSTER_SIZE - 1;
+            int y = cy * CLUSTER_SIZE + i;
+            return !grid.isWall(x, y) && !grid.isWall(x + 1, y);
+        }
+        int x = cx * CLUSTER_SIZE + i;
+        int y = (cy + 1) * CLUSTER_SIZE - 1;
+        return !grid.isWall(x, y) && !grid.isWall(x, y + 1);
+    }
+
+    /**
+     * Crée (ou retrouve) les nœuds des deux côtés d'un passage et les relie.
+     */
+    private void addCrossing(int cx, int cy, boolean vertical, int i, Map<Integer, Integer> nodeOfCell,
+                             IntList xs, IntList ys, IntList edges) {
+        int x = vertical ? (cx + 1) * CLUSTER_SIZE - 1 : cx * CLUSTER_SIZE + i;
+        int y = vertical ? cy * CLUSTER_SIZE + i : (cy + 1) * CLUSTER_SIZE - 1;
+        int a = nodeAt(x, y, nodeOfCell, xs, ys);
+        int b = vertical ? nodeAt(x + 1, y, nodeOfCell, xs, ys) : nodeAt(x, y + 1, nodeOfCell, xs, ys);
+        edges.add(a);
+        edges.add(b);
+        edges.add(1);
+        edges.add(b);
+        edges.add(a);
+        edges.add(1);
+    }
+
+    private int nodeAt(int x, int y, Map<Integer, Integer> nodeOfCell, IntList xs, IntList ys) {
+        Integer key = y * grid.getWidth() + x;
+        Integer node = nodeOfCell.get(key);
+        if (node == null) {
+            node = xs.size();
+            nodeOfCell.put(key, node);
+            xs.add(x);
+            ys.add(y);
+        }
+        return node;
+    }
+
+    /**
+     * Cherche un chemin entre deux cases.
+     *
+     * @param startX La colonne de la case de départ.
+     * @param startY La ligne de la case de départ.
+     * @param goalX  La colonne de la case d'arrivée.
+     * @param goalY  La ligne de la case d'arrivée.
+     * @return Le chemin, ou {@link GridPath#NONE} s'il n'en existe pas dans la carte.
+     */
+    public GridPath findPath(int startX, int startY, int goalX, int goalY) {
+        lastExpansions = 0;
+        if (!contains(startX, startY) || !contains(goalX, goalY)
+            || grid.isWall(startX, startY) || grid.isWall(goalX, goalY)) {
+            return GridPath.NONE;
+        }
+
+        // Départ et arrivée dans le même groupe : un chemin local suffit s'il existe
+        pathLength = 0;
+        appendCell(startX, startY);
+        if (clusterOf(startX, startY) == clusterOf(goalX, goalY)) {
+            searchCluster(goalX, goalY);
+            if (getLocalDistance(startX, startY) >= 0) {
+                appendLocalPath(startX, startY);
+                return buildPath();
+            }
+        }
+
+        if (++generation == 0) {
+            Arrays.fill(openStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            Arrays.fill(goalStamp, 0);
+            generation = 1;
+        }
+        int start = nodeCount;
+        int goal = nodeCount + 1;
+
+        // Distance de chaque nœud du groupe d'arrivée jusqu'à l'arrivée
+        int goalCluster = clusterOf(goalX, goalY);
+        searchCluster(goalX, goalY);
+        for (int i = clusterStart[goalCluster]; i < clusterStart[goalCluster + 1]; i++) {
+            int node = clusterNodes[i];
+            int distance = getLocalDistance(nodeX[node], nodeY[node]);
+            if (distance >= 0) {
+                goalStamp[node] = generation;
+                goalCost[node] = distance;
+            }
+        }
+
+        // Recherche A* dans le graphe abstrait, depuis le départ
+        heap.clear();
+        openStamp[start] = generation;
+        cost[start] = 0;
+        parent[start] = -1;
+        heap.push(start, priority(start, 0, startX, startY, goalX, goalY));
+        int startCluster = clusterOf(startX, startY);
+        searchCluster(startX, startY);
+        while (!heap.isEmpty()) {
+            int node = heap.pop();
+            if (closedStamp[node] == generation) {
+                continue;
+            }
+            closedStamp[node] = generation;
+            lastExpansions++;
+            if (node == goal) {
+                return refine(start, goal, startX, startY, goalX, goalY);
+            }
+            if (node == start) {
+                for (int i = clusterStart[startCluster]; i < clusterStart[startCluster + 1]; i++) {
+                    int next = clusterNodes[i];
+                    int distance = getLocalDistance(nodeX[next], nodeY[next]);
+                    if (distance >= 0) {
+                        relax(node, next, distance, goalX, goalY);
+                    }
+                }
+                continue;
+            }
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                relax(node, edgeTarget[e], edgeCost[e], goalX, goalY);
+            }
+            if (goalStamp[node] == generation) {
+                relax(node, goal, goalCost[node], goalX, goalY);
+            }
+        }
+        return GridPath.NONE;
+    }
+
+    /**
+     * Améliore le coût d'un nœud atteint depuis un autre, et l'ajoute aux nœuds à développer.
+     */
+    private void relax(int from, int to, int edge, int goalX, int goalY) {
+        int newCost = cost[from] + edge;
+        if (openStamp[to] != generation || newCost < cost[to]) {
+            openStamp[to] = generation;
+            cost[to] = newCost;
+            parent[to] = from;
+            int x = to == nodeCount + 1 ? goalX : nodeX[to];
+            int y = to == nodeCount + 1 ? goalY : nodeY[to];
+            heap.push(to, priority(to, newCost, x, y, goalX, goalY));
+        }
+    }
+
+    /**
+     * Priorité d'un nœud : coût estimé jusqu'à l'arrivée, puis indice du nœud pour un ordre
+     * déterministe.
+     */
+    private static long priority(int node, int cost, int x, int y, int goalX, int goalY) {
+        long estimate = cost + Math.abs(goalX - x) + Math.abs(goalY - y);
+        return (estimate << 32) | node;
+    }
+
+    /**
+     * Détaille le chemin abstrait trouvé en cases, groupe par groupe.
+     */
+    private GridPath refine(int start, int goal, int startX, int startY, int goalX, int goalY) {
+        // Nœuds du chemin abstrait, de l'arrivée au départ
+        IntList nodes = new IntList();
+        for (int node = goal; node != -1; node = parent[node]) {
+            nodes.add(node);
+        }
+        int fromX = startX;
+        int fromY = startY;
+        for (int i = nodes.size() - 2; i >= 0; i--) {
+            int node = nodes.get(i);
+            int toX = node == goal ? goalX : nodeX[node];
+            int toY = node == goal ? goalY : nodeY[node];
+            if (clusterOf(fromX, fromY) == clusterOf(toX, toY)) {
+                searchCluster(toX, toY);
+                appendLocalPath(fromX, fromY);
+            } else {
+                appendCell(toX, toY); // Passage entre deux groupes voisins
+            }
+            fromX = toX;
+            fromY = toY;
+        }
+        return buildPath();
+    }
+
+    /**
+     * Parcours en largeur limité au groupe d'une case, depuis cette case.
+     */
+    private void searchCluster(int fromX, int fromY) {
+        if (++localGeneration == 0) {
+            Arrays.fill(localStamp, 0);
+            localGeneration = 1;
+        }
+        localX = (fromX / CLUSTER_SIZE) * CLUSTER_SIZE;
+        localY = (fromY / CLUSTER_SIZE) * CLUSTER_SIZE;
+        localWidth = Math.min(CLUSTER_SIZE, grid.getWidth() - localX);
+        int localHeight = Math.min(CLUSTER_SIZE, grid.getHeight() - localY);
+
+        int from = (fromY - localY) * localWidth + (fromX - localX);
+        localStamp[from] = localGeneration;
+        localDistance[from] = 0;
+        localParent[from] = -1;
+        localQueue[0] = from;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int cell = localQueue[head++];
+            int x = cell % localWidth;
+            int y = cell / localWidth;
+            for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+                int nx = x + NEIGHBOUR_X[i];
+                int ny = y + NEIGHBOUR_Y[i];
+                if (nx < 0 || ny < 0 || nx >= localWidth || ny >= localHeight) {
+                    continue;
+                }
+                int neighbour = ny * localWidth + nx;
+                if (localStamp[neighbour] == localGeneration || grid.isWall(localX + nx, localY + ny)) {
+                    continue;
+                }
+                localStamp[neighbour] = localGeneration;
+                localDistance[neighbour] = localDistance[cell] + 1;
+                localParent[neighbour] = cell;
+                localQueue[tail++] = neighbour;
+            }
+        }
+        lastExpansions += tail;
+    }
+
+    /**
+     * Retourne la distance d'une case du groupe de la dernière recherche locale jusqu'à son origine.
+     *
+     * @return La distance en cases, ou {@code -1} si la case n'est pas atteinte.
+     */
+    private int getLocalDistance(int x, int y) {
+        int cell = (y - localY) * localWidth + (x - localX);
+        return localStamp[cell] == localGeneration ? localDistance[cell] : -1;
+    }
+
+    /**
+     * Ajoute au chemin les cases qui mènent d'une case atteinte par la dernière recherche locale
+     * jusqu'à l'origine de cette recherche, la case de départ exclue.
+     */
+    private void appendLocalPath(int fromX, int fromY) {
+        int cell = (fromY - localY) * localWidth + (fromX - localX);
+        for (cell = localParent[cell]; cell != -1; cell = localParent[cell]) {
+            appendCell(localX + cell % localWidth, localY + cell / localWidth);
+        }
+    }
+
+    private void appendCell(int x, int y) {
+        if (pathLength == pathX.length) {
+            pathX = Arrays.copyOf(pathX, pathLength * 2);
+            pathY = Arrays.copyOf(pathY, pathLength * 2);
+        }
+        pathX[pathLength] = x;
+        pathY[pathLength] = y;
+        pathLength++;
+    }
+
+    private GridPath buildPath() {
+        return new GridPath(Arrays.copyOf(pathX, pathLength), Arrays.copyOf(pathY, pathLength));
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < grid.getWidth() && y < grid.getHeight();
+    }
+
+    private int clusterOf(int x, int y) {
+        return (y / CLUSTER_SIZE) * clustersX + x / CLUSTER_SIZE;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeTarget.length;
+    }
+
+    /**
+     * Retourne le nombre de cases et de nœuds développés par la dernière recherche.
+     *
+     * @return Le nombre de développements de la dernière recherche.
+     */
+    public int getLastExpansions() {
+        return lastExpansions;
+    }
+
+    /**
+     * Retourne la mémoire occupée par le graphe et la mémoire de travail des recherches.
+     *
+     * @return La mémoire occupée (en octets, approximative).
+     */
+    public long getMemoryBytes() {
+        long ints = (long) nodeX.length + nodeY.length + clusterStart.length + clusterNodes.length
+            + edgeStart.length + edgeTarget.length + edgeCost.length
+            + openStamp.length + closedStamp.length + cost.length + parent.length + goalStamp.length + goalCost.length
+            + localStamp.length + localDistance.length + localParent.length + localQueue.length
+            + pathX.length + pathY.length;
+        return ints * Integer.BYTES + heap.getMemoryBytes();
+    }
+
+    /**
+     * Liste d'entiers extensible, utilisée pendant la construction du graphe.
+     */
+    private static final class IntList {
+        private int[] values = new int[64];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.game.model;
+
+/**
+ * La classe {@code DistanceField} donne, pour chaque case de la grille des murs, la distance
+ * euclidienne jusqu'au mur le plus proche (champ de distance signé).
+ *
+ * <p>Le champ est calculé une fois au chargement d'une carte finie, par la transformée en
+ * distance exacte de Felzenszwalb et Huttenlocher : un passage sur les colonnes puis un passage
+ * sur les lignes, en temps linéaire dans le nombre de cases.</p>
+ *
+ * <p>Les distances sont mesurées entre centres de cases, en cases : une case libre voisine d'un
+ * mur est à distance {@code 1}. Les cases des murs ont une distance négative, celle de la case
+ * libre la plus proche. Les valeurs sont gardées sur 16 bits, au seizième de case près.</p>
+ *
+ * <p>{@link #getClearance} en déduit une marge sûre : une boîte peut se déplacer de cette marge
+ * dans n'importe quelle direction sans toucher un mur. Les cases peuvent ne pas être carrées :
+ * les positions sont converties en cases avec la largeur d'une case sur l'axe horizontal et sa
+ * hauteur sur l'axe vertical.</p>
+ */
+public final class DistanceField {
+    /** Nombre de subdivisions d'une case dans les valeurs enregistrées. */
+    private static final int PRECISION = 16;
+    /** Distance maximale enregistrée (en cases). */
+    public static final float MAX_DISTANCE = Short.MAX_VALUE / (float) PRECISION;
+    /** Valeur infinie du calcul (aucune case cible sur la ligne). */
+    private static final float INFINITY = 1e20f;
+    /** Somme des demi-diagonales de deux cases (en cases) : écart maximal entre deux centres et deux points de ces cases. */
+    private static final float CELL_DIAGONAL = (float) Math.sqrt(2);
+
+    private final int width;
+    private final int height;
+    private final int cellWidth;
+    private final int cellHeight;
+    /** Distance signée de chaque case, en seizièmes de case, ligne par ligne. */
+    private final short[] distance;
+
+    private DistanceField(int width, int height, int cellWidth, int cellHeight) {
+        this.width = width;
+        this.height = height;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.distance = new short[width * height];
+    }
+
+    /**
+     * Calcule le champ de distance d'une grille finie.
+     *
+     * <p>Les cases hors de la grille sont libres, comme dans {@link OccupancyGrid}.</p>
+     *
+     * @param grid La grille des murs, entièrement en mémoire.
+     * @return Le champ de distance de la grille.
+     */
+    public static DistanceField compute(WallGrid grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("WallGrid ne peut pas être null");
+        }
+        int width = grid.getWidth();
+        int height = grid.getHeight();
+        DistanceField field = new DistanceField(width, height, grid.getCellWidth(), grid.getCellHeight());
+        float[] squared = new float[width * height];
+
+        // Distance des cases libres jusqu'au mur le plus proche
+        transform(grid, true, squared, width, height);
+        for (int i = 0; i < squared.length; i++) {
+            if (!grid.isWall(i % width, i / width)) {
+                field.distance[i] = encode((float) Math.sqrt(squared[i]));
+            }
+        }
+
+        // Distance des murs jusqu'à la case libre la plus proche, hors de la grille comprise
+        transform(grid, false, squared, width, height);
+        for (int i = 0; i < squared.length; i++) {
+            int x = i % width;
+            int y = i / width;
+            if (grid.isWall(x, y)) {
+                int border = Math.min(Math.min(x + 1, y + 1), Math.min(width - x, height - y));
+                field.distance[i] = encode(-Math.min((float) Math.sqrt(squared[i]), border));
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Calcule le carré de la distance de chaque case jusqu'à la case cible la plus proche.
+     *
+     * @param grid    La grille des murs.
+     * @param toWalls {@code true} si les cibles sont les murs, {@code false} si ce sont les cases libres.
+     * @param squared Le tableau des résultats, ligne par ligne.
+     */
+    private static void transform(WallGrid grid, boolean toWalls, float[] squared, int width, int height) {
+        int length = Math.max(width, height);
+        float[] line = new float[length];
+        float[] result = new float[length];
+        int[] parabolas = new int[length];
+        double[] bounds = new double[length + 1];
+
+        // Colonnes
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                line[y] = grid.isWall(x, y) == toWalls ? 0 : INFINITY;
+            }
+            transformLine(line, height, result, parabolas, bounds);
+            for (int y = 0; y < height; y++) {
+                squared[y * width + x] = result[y];
+            }
+        }
+
+        // Lignes
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(squared, y * width, line, 0, width);
+            transformLine(line, width, result, parabolas, bounds);
+            System.arraycopy(result, 0, squared, y * width, width);
+        }
+    }
+
+    /**
+     * Transformée en distance d'une ligne : enveloppe inférieure des paraboles
+     * {@code (q - p)² + f(p)}.
+     */
+    private static void transformLine(float[] f, int n, float[] result, int[] parabolas, double[] bounds) {
+        int k = 0;
+        parabolas[0] = 0;
+        bounds[0] = -INFINITY;
+        bounds[1] = INFINITY;
+        for (int q = 1; q < n; q++) {
+            double s = intersection(f, parabolas[k], q);
+            while (s <= bounds[k]) {
+                k--;
+                s = intersection(f, parabolas[k], q);
+            }
+            k++;
+            parabolas[k] = q;
+            bounds[k] = s;
+            bounds[k + 1] = INFINITY;
+        }
+        k = 0;
+        for (int q = 0; q < n; q++) {
+            while (bounds[k + 1] < q) {
+                k++;
+            }
+            int p = parabolas[k];
+            result[q] = (float) (q - p) * (q - p) + f[p];
+        }
+    }
+
+    private static double intersection(float[] f, int p, int q) {
+        return (((double) f[q] + (double) q * q) - ((double) f[p] + (double) p * p)) / (2.0 * q - 2.0 * p);
+    }
+
+    private static short encode(float cells) {
+        return (short) Math.max(-Short.MAX_VALUE, Math.min(Short.MAX_VALUE, Math.round(cells * PRECISION)));
+    }
+
+    /**
+     * Retourne la distance signée d'une case jusqu'au mur le plus proche.
+     *
+     * <p>Pour une case hors de la grille, la distance est minorée à partir de la case la plus
+     * proche dans la grille.</p>
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case (depuis le bas de la carte).
+     * @return La distance en cases, négative dans un mur, au plus {@link #MAX_DISTANCE}.
+     */
+    public float getDistance(int cellX, int cellY) {
+        if (width == 0 || height == 0) {
+            return MAX_DISTANCE;
+        }
+        int x = Math.max(0, Math.min(width - 1, cellX));
+        int y = Math.max(0, Math.min(height - 1, cellY));
+        float inside = distance[y * width + x] / (float) PRECISION;
+        if (x == cellX && y == cellY) {
+            return inside;
+        }
+        float outside = (float) Math.sqrt((double) (cellX - x) * (cellX - x) + (double) (cellY - y) * (cellY - y));
+        return Math.max(1, inside - outside); // Une case hors de la grille est libre
+    }
+
+    /**
+     * Retourne une marge sûre autour d'une boîte : la boîte peut se déplacer d'au plus cette
+     * distance, dans n'importe quelle direction, sans chevaucher un mur.
+     *
+     * <p>La marge est mesurée dans l'unité du plus petit côté d'une case : un déplacement de cette
+     * longueur ne franchit pas plus de cases, sur aucun des deux axes.</p>
+     *
+     * @param x      La coordonnée X du coin inférieur gauche de la boîte.
+     * @param y      La coordonnée Y du coin inférieur gauche de la boîte.
+     * @param width  La largeur de la boîte.
+     * @param height La hauteur de la boîte.
+     * @return La marge (en pixels), {@code 0} si la boîte touche ou chevauche un mur.
+     */
+    public float getClearance(float x, float y, float width, float height) {
+        int minX = (int) Math.floor(x / cellWidth);
+        int minY = (int) Math.floor(y / cellHeight);
+        int maxX = (int) Math.ceil((x + width) / cellWidth) - 1;
+        int maxY = (int) Math.ceil((y + height) / cellHeight) - 1;
+        float nearest = MAX_DISTANCE;
+        for (int cellY = minY; cellY <= maxY; cellY++) {
+            for (int cellX = minX; cellX <= maxX; cellX++) {
+                nearest = Math.min(nearest, getDistance(cellX, cellY));
+            }
+        }
+        // Le point d'une case le plus proche d'un mur est à au plus une diagonale de case des centres
+        return Math.max(0, nearest - CELL_DIAGONAL - 1f / PRECISION) * Math.min(cellWidth, cellHeight);
+    }
+
+    /**
+     * Retourne la mémoire occupée par le champ.
+     *
+     * @return La mémoire occupée (en octets).
+     */
+    public long getMemoryBytes() {
+        return (long) distance.length * Short.BYTES;
+    }
+}
@@ -12,38 +12,56 @@ import com.game.controller.AudioManager;
  * <p>Cette classe hérite de {@link Entity} et implémente l'interface {@link Movable} pour gérer
  * les déplacements.</p>
  *
+ * <p>L'état de l'ennemi (position, vitesse, taille, indicateurs) est rangé dans l'{@link EntityStore}
+ * des ennemis de la carte ; l'objet n'en garde que l'identifiant.</p>
+ *
+ * <p>Un ennemi ne quitte jamais la ligne (ou la colonne) de sa patrouille : les cases libres de
+ * part et d'autre de sa position sont cherchées une fois dans la grille des murs et rangées comme
+ * bornes de déplacement, puis {@link EntityStore#advanceWithinBounds} arrête chaque déplacement à
+ * ces bornes sans consulter la grille. Les bornes ne sont recalculées que si la grille change, ou
+ * si elles s'arrêtent sur une case encore inconnue.</p>
+ *
+ * <p>Le déplacement est continu : l'ennemi avance jusqu'au mur puis repart dans l'autre sens, et
+ * ne peut pas sauter par-dessus un mur, quelle que soit la durée du pas.</p>
+ *
  */
 public class Enemy extends Entity implements Movable {
-    /** Indique si l'ennemi est actif. */
-    private boolean isActive;
-    /** Largeur de l'ennemi. */
-    private float width;
-    /** Hauteur de l'ennemi. */
-    private float height;
-    /** Vitesse de déplacement de l'ennemi (en pixels par seconde). */
-    private float speed = 100f;
-    /** Direction actuelle pour les mouvements horizontaux. */
-    private boolean movingRight = true;
-    /** Direction actuelle pour les mouvements verticaux. */
-    private boolean movingUp = true;
-    /** Définit si l'ennemi se déplace verticalement ou horizontalement. */
-    private boolean isVertical;
+    /** Vitesse de déplacement des ennemis (en pixels par seconde). */
+    static final float SPEED = 100f;
+
+    /** Stockage où est rangé l'état de l'ennemi. */
+    protected final EntityStore store;
+    /** Identifiant de l'ennemi dans {@link #store}. */
+    protected final int handle;
+    /** Balayage des déplacements contre la grille quand les bornes ne suffisent pas, créé au besoin. */
+    private BoxSweep sweep;
+
+    /** État d'une case de la patrouille, lors du calcul des bornes. */
+    private static final int FREE = 0;
+    private static final int WALL = 1;
+    private static final int UNKNOWN = 2;
 
     /**
      * Initialise un nouvel ennemi avec ses coordonnées, ses textures et son type de mouvement.
      *
+     * <p>L'ennemi est ajouté au stockage ; il part vers la droite, ou vers le haut.</p>
+     *
+     * @param store              Le stockage des ennemis de la carte.
      * @param x                  La coordonnée X initiale de l'ennemi.
      * @param y                  La coordonnée Y initiale de l'ennemi.
      * @param horizontalTexturePath Le chemin de la texture pour les déplacements horizontaux.
      * @param verticalTexturePath   Le chemin de la texture pour les déplacements verticaux.
      * @param isVertical         Définit si l'ennemi se déplace verticalement.
      */
-    public Enemy(float x, float y, String horizontalTexturePath, String verticalTexturePath, boolean isVertical) {
-        super(x, y, isVertical ? verticalTexturePath : horizontalTexturePath);
-        this.width = 32;
-        this.height = 32;
-        this.isVertical = isVertical;
-        this.isActive = true;
+    public Enemy(EntityStore store, float x, float y, String horizontalTexturePath, String verticalTexturePath,
+                 boolean isVertical) {
+        super(isVertical ? verticalTexturePath : horizontalTexturePath);
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore ne peut pas être null");
+        }
+        this.store = store;
+        this.handle = store.add(x, y, 32, 32, EntityStore.ACTIVE | (isVertical ? EntityStore.VERTICAL : 0));
+        store.setVelocity(handle, isVertical ? 0 : SPEED, isVertical ? SPEED : 0);
     }
 
     /**
@@ -54,8 +72,8 @@ public class Enemy extends Entity implements Movable {
      */
     @Override
     public void move(float deltaX, float deltaY) {
-        x += deltaX;
-        y += deltaY;
+        store.setX(handle, store.getX(handle) + deltaX);
+        store.setY(handle, store.getY(handle) + deltaY);
     }
 
     /**
@@ -64,7 +82,7 @@ public class Enemy extends Entity implements Movable {
      * @return {@code true} si l'ennemi se déplace horizontalement, sinon {@code false}.
      */
     public boolean isHorizontal() {
-        return !isVertical;
+        return !isVertical();
     }
 
     /**
@@ -73,57 +91,231 @@ public class Enemy extends Entity implements Movable {
      * @return {@code true} si l'ennemi se déplace verticalement, sinon {@code false}.
      */
     public boolean isVertical() {
-        return isVertical;
+        return store.hasFlag(handle, EntityStore.VERTICAL);
+    }
+
+    float getSpeed() {
+        return SPEED;
+    }
+
+    /**
+     * Retourne l'identifiant de l'ennemi, son indice dans le stockage et dans {@link GameMap#getEnemies()}.
+     *
+     * @return L'identifiant de l'ennemi.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    @Override
+    public float getX() {
+        return store.getX(handle);
+    }
+
+    @Override
+    public float getY() {
+        return store.getY(handle);
+    }
+
+    @Override
+    public float getPreviousX() {
+        return store.getPreviousX(handle);
+    }
+
+    @Override
+    public float getPreviousY() {
+        return store.getPreviousY(handle);
+    }
+
+    @Override
+    public void savePosition() {
+        store.setPosition(handle, getX(), getY());
+    }
+
+    @Override
+    void setPosition(float x, float y) {
+        store.setPosition(handle, x, y);
+    }
+
+    /**
+     * Remet l'ennemi dans un état capturé par un {@link MapState}.
+     *
+     * @param x         La coordonnée X de l'ennemi.
+     * @param y         La coordonnée Y de l'ennemi.
+     * @param velocityX La vitesse horizontale de l'ennemi.
+     * @param velocityY La vitesse verticale de l'ennemi.
+     */
+    void restore(float x, float y, float velocityX, float velocityY) {
+        setPosition(x, y);
+        store.setVelocity(handle, velocityX, velocityY);
+        store.setFlag(handle, EntityStore.BOUNDED, false);
+    }
+
+    /**
+     * Calcule les bornes de la patrouille depuis la position actuelle de l'ennemi.
+     *
+     * <p>Les cases recouvertes par l'ennemi sont parcourues vers l'arrière et vers l'avant jusqu'au
+     * premier mur, à la manière de {@link WallGrid#overlaps}. Si l'ennemi recouvre lui-même un mur
+     * ou une case inconnue, les bornes restent invalides et la grille est consultée directement.</p>
+     *
+     * @param grid       La grille des murs.
+     * @param tileWidth  La largeur de la boîte de collision (en pixels).
+     * @param tileHeight La hauteur de la boîte de collision (en pixels).
+     */
+    void computePatrol(WallGrid grid, float tileWidth, float tileHeight) {
+        store.setFlag(handle, EntityStore.BOUNDED, false);
+
+        boolean isVertical = isVertical();
+        int cell = isVertical ? grid.getCellHeight() : grid.getCellWidth();
+        int crossCell = isVertical ? grid.getCellWidth() : grid.getCellHeight();
+        float position = isVertical ? getY() : getX();
+        float size = isVertical ? tileHeight : tileWidth;
+        float cross = isVertical ? getX() : getY();
+        float crossSize = isVertical ? tileWidth : tileHeight;
+        int crossFrom = (int) Math.floor(cross / crossCell);
+        int crossTo = (int) Math.ceil((cross + crossSize) / crossCell) - 1;
+        int first = (int) Math.floor(position / cell);
+        int last = (int) Math.ceil((position + size) / cell) - 1;
+        int length = isVertical ? grid.getHeight() : grid.getWidth();
+
+        for (int i = first; i <= last; i++) {
+            if (lineState(grid, i, crossFrom, crossTo) != FREE) {
+                return;
+            }
+        }
+
+        // Hors de la grille, toutes les cases sont libres
+        int i = first - 1;
+        int state = FREE;
+        while (i >= 0 && (state = lineState(grid, i, crossFrom, crossTo)) == FREE) {
+            i--;
+        }
+        float min = i < 0 ? Float.NEGATIVE_INFINITY : (float) ((i + 1L) * cell);
+        boolean minOpen = i >= 0 && state == UNKNOWN;
+
+        i = last + 1;
+        state = FREE;
+        while (i < length && (state = lineState(grid, i, crossFrom, crossTo)) == FREE) {
+            i++;
+        }
+        float max = i >= length ? Float.POSITIVE_INFINITY : (float) ((long) i * cell) - size;
+        boolean maxOpen = i < length && state == UNKNOWN;
+        store.setBounds(handle, min, max, minOpen, maxOpen);
+    }
+
+    /**
+     * Retourne l'état des cases d'une colonne (ou d'une ligne) de la patrouille, sur la largeur
+     * de l'ennemi.
+     */
+    private int lineState(WallGrid grid, int along, int crossFrom, int crossTo) {
+        boolean isVertical = isVertical();
+        for (int cross = crossFrom; cross <= crossTo; cross++) {
+            int cellX = isVertical ? cross : along;
+            int cellY = isVertical ? along : cross;
+            if (!grid.isKnown(cellX, cellY)) {
+                return UNKNOWN;
+            }
+            if (grid.isWall(cellX, cellY)) {
+                return WALL;
+            }
+        }
+        return FREE;
+    }
+
+    /**
+     * Fait avancer l'ennemi le long de sa patrouille jusqu'au premier mur.
+     *
+     * <p>Le déplacement est arrêté à la borne de la patrouille qu'il dépasse. La grille n'est
+     * balayée que si les bornes sont invalides ou si le déplacement dépasse une borne inconnue.</p>
+     *
+     * @param position La coordonnée de l'ennemi le long de sa patrouille.
+     * @param delta    Le déplacement le long de la patrouille.
+     * @param gameMap  La carte du jeu.
+     * @return La coordonnée atteinte : {@code position + delta} si aucun mur n'est touché, sinon
+     *         la coordonnée où l'ennemi touche le mur.
+     */
+    private float sweepOnPatrol(float position, float delta, GameMap gameMap) {
+        if (!store.hasFlag(handle, EntityStore.BOUNDED)) {
+            computePatrol(gameMap.getWallGrid(), gameMap.getTileWidth(), gameMap.getTileHeight());
+        }
+
+        if (store.hasFlag(handle, EntityStore.BOUNDED)) {
+            if (delta > 0) {
+                float limit = store.getMaxBound(handle);
+                if (position + delta <= limit) {
+                    return position + delta;
+                }
+                if (!store.hasFlag(handle, EntityStore.MAX_OPEN)) {
+                    return Math.max(position, limit);
+                }
+            } else {
+                float limit = store.getMinBound(handle);
+                if (position + delta >= limit) {
+                    return position + delta;
+                }
+                if (!store.hasFlag(handle, EntityStore.MIN_OPEN)) {
+                    return Math.min(position, limit);
+                }
+            }
+            // Au-delà d'une borne inconnue : la grille décide, et les bornes seront recalculées
+            store.setFlag(handle, EntityStore.BOUNDED, false);
+        }
+
+        if (sweep == null) {
+            sweep = new BoxSweep();
+        }
+        if (isVertical()) {
+            return gameMap.sweep(getX(), getY(), 0, delta, sweep) ? sweep.getContactY() : position + delta;
+        }
+        return gameMap.sweep(getX(), getY(), delta, 0, sweep) ? sweep.getContactX() : position + delta;
     }
 
     /**
      * Met à jour la position de l'ennemi en fonction du temps écoulé et des collisions.
      *
+     * <p>Un ennemi qui touche un mur s'y arrête et change de direction. Le cas courant, un
+     * déplacement entre des bornes connues, est traité par {@link EntityStore#advanceWithinBounds}.</p>
+     *
      * @param deltaTime Le temps écoulé depuis la dernière mise à jour (en secondes).
      * @param gameMap   La carte du jeu utilisée pour vérifier les collisions.
      */
     public void update(float deltaTime, GameMap gameMap) {
+        if (store.advanceWithinBounds(handle, deltaTime)) {
+            return;
+        }
+        boolean isVertical = isVertical();
+        float velocity = isVertical ? store.getVelocityY(handle) : store.getVelocityX(handle);
+        float position = isVertical ? getY() : getX();
+        float delta = velocity * deltaTime;
+        float reached = sweepOnPatrol(position, delta, gameMap);
+        if (reached != position + delta) {
+            velocity = -velocity; // Change de direction contre le mur
+        }
         if (isVertical) {
-            // Déplacement vertical (haut et bas)
-            float deltaY = movingUp ? speed * deltaTime : -speed * deltaTime;
-
-            // Vérifier les collisions pour changer de direction
-            if (movingUp && gameMap.isCollision(x, y + deltaY)) {
-                movingUp = false; // Change direction vers le bas
-            } else if (!movingUp && gameMap.isCollision(x, y + deltaY)) {
-                movingUp = true; // Change direction vers le haut
-            } else {
-                move(0, deltaY);
-            }
+            store.setY(handle, reached);
+            store.setVelocity(handle, 0, velocity);
         } else {
-            // Déplacement horizontal (gauche et droite)
-            float deltaX = movingRight ? speed * deltaTime : -speed * deltaTime;
-
-            // Vérifier les collisions pour changer de direction
-            if (movingRight && gameMap.isCollision(x + deltaX, y)) {
-                movingRight = false; // Change direction vers la gauche
-            } else if (!movingRight && gameMap.isCollision(x + deltaX, y)) {
-                movingRight = true; // Change direction vers la droite
-            } else {
-                move(deltaX, 0);
-            }
+            store.setX(handle, reached);
+            store.setVelocity(handle, velocity, 0);
         }
     }
 
     /**
-     * Affiche l'ennemi à l'écran.
+     * Affiche l'ennemi à une position donnée, issue d'un instantané de la simulation.
      *
      * @param batch   Le {@link SpriteBatch} utilisé pour dessiner les textures.
      * @param offsetX Décalage horizontal appliqué au rendu.
      * @param offsetY Décalage vertical appliqué au rendu.
      * @param scale   Facteur d'échelle pour les dimensions.
+     * @param drawX   La coordonnée X à laquelle dessiner l'ennemi.
+     * @param drawY   La coordonnée Y à laquelle dessiner l'ennemi.
      */
-    public void render(SpriteBatch batch, float offsetX, float offsetY, float scale) {
-        batch.draw(texture,
-            offsetX + x * scale,
-            offsetY + y * scale,
-            width * scale,
-            height * scale
+    public void render(SpriteBatch batch, float offsetX, float offsetY, float scale, float drawX, float drawY) {
+        batch.draw(getRegion(),
+            offsetX + drawX * scale,
+            offsetY + drawY * scale,
+            store.getWidth(handle) * scale,
+            store.getHeight(handle) * scale
         );
     }
 
@@ -137,9 +329,6 @@ public class Enemy extends Entity implements Movable {
      * @return {@code true} si une collision est détectée, sinon {@code false}.
      */
     public boolean checkCollision(float playerX, float playerY, float playerWidth, float playerHeight) {
-        return isActive
-            && playerX < x + width && playerX + playerWidth > x
-            && playerY < y + height && playerY + playerHeight > y;
-
+        return store.overlaps(handle, playerX, playerY, playerWidth, playerHeight);
     }
 }
@@ -1,7 +1,8 @@
 package com.game.model;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.game.assets.TextureRegistry;
 
 /**
  * La classe abstraite {@code Entity} représente une entité de base dans le jeu.
@@ -19,12 +20,22 @@ public abstract class Entity {
     protected float x;
     /** Coordonnée Y de l'entité sur l'écran. */
     protected float y;
-    /** Texture utilisée pour représenter visuellement l'entité. */
-    protected Texture texture;
+    /** Coordonnée X de l'entité au pas de simulation précédent. */
+    protected float previousX;
+    /** Coordonnée Y de l'entité au pas de simulation précédent. */
+    protected float previousY;
+    /** Chemin de la texture, utilisé comme clé dans le {@link TextureRegistry}. */
+    protected String texturePath;
+    /** Région de texture partagée, obtenue au premier rendu. */
+    private TextureRegion region;
 
     /**
      * Initialise une nouvelle entité avec des coordonnées et une texture spécifiées.
      *
+     * <p>La région est obtenue depuis le {@link TextureRegistry} au premier rendu : toutes les
+     * entités utilisant la même image partagent une seule région de l'atlas des sprites, et une
+     * entité qui n'est jamais affichée (simulation sans fenêtre) ne charge aucune texture.</p>
+     *
      * @param startX      La position initiale sur l'axe X.
      * @param startY      La position initiale sur l'axe Y.
      * @param texturePath Le chemin du fichier de la texture.
@@ -32,7 +43,21 @@ public abstract class Entity {
     public Entity(float startX, float startY, String texturePath) {
         x = startX;
         y = startY;
-        texture = new Texture(texturePath);
+        previousX = startX;
+        previousY = startY;
+        this.texturePath = texturePath;
+    }
+
+    /**
+     * Initialise une entité dont la position est rangée ailleurs, dans un {@link EntityStore}.
+     *
+     * <p>La sous-classe redéfinit alors les accesseurs de la position ; les champs {@link #x} et
+     * {@link #y} ne sont pas utilisés.</p>
+     *
+     * @param texturePath Le chemin du fichier de la texture.
+     */
+    protected Entity(String texturePath) {
+        this.texturePath = texturePath;
     }
 
     /**
@@ -44,17 +69,57 @@ public abstract class Entity {
      * @param batch Le {@link SpriteBatch} utilisé pour dessiner la texture.
      */
     public void render(SpriteBatch batch) {
-        batch.draw(texture, x, y, 64, 64); // Taille par défaut 64x64
+        batch.draw(getRegion(), x, y, 64, 64); // Taille par défaut 64x64
+    }
+
+    /**
+     * Retourne la région de texture de l'entité, en l'obtenant du registre si nécessaire.
+     *
+     * <p>Cette méthode doit être appelée depuis le thread de rendu.</p>
+     *
+     * @return La région partagée de l'entité.
+     */
+    protected TextureRegion getRegion() {
+        if (region == null) {
+            region = TextureRegistry.acquire(texturePath);
+        }
+        return region;
     }
 
     /**
-     * Libère les ressources associées à la texture de l'entité.
+     * Rend la référence de l'entité sur sa région partagée.
      *
-     * <p>Cette méthode doit être appelée lorsque l'entité n'est plus utilisée
-     * afin d'éviter les fuites de mémoire.</p>
+     * <p>Cette méthode doit être appelée lorsque l'entité n'est plus utilisée. La texture
+     * n'est détruite que lorsque plus aucune entité ne l'utilise.</p>
      */
     public void dispose() {
-        texture.dispose();
+        if (region != null) {
+            TextureRegistry.release(texturePath);
+            region = null;
+        }
+    }
+
+    /**
+     * Mémorise la position actuelle comme position du pas de simulation précédent.
+     *
+     * <p>Cette méthode doit être appelée au début de chaque pas de simulation.</p>
+     */
+    public void savePosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * Place l'entité à une position, sans déplacement à interpoler depuis le pas précédent.
+     *
+     * @param x La nouvelle coordonnée X.
+     * @param y La nouvelle coordonnée Y.
+     */
+    void setPosition(float x, float y) {
+        this.x = x;
+        this.y = y;
+        previousX = x;
+        previousY = y;
     }
 
     public float getX(){
@@ -63,4 +128,10 @@ public abstract class Entity {
     public float getY(){
         return y;
     }
+    public float getPreviousX() {
+        return previousX;
+    }
+    public float getPreviousY() {
+        return previousY;
+    }
 }
@@ -0,0 +1,329 @@
+package com.game.model;
+
+import java.util.Arrays;
+
+/**
+ * La classe {@code EntityStore} range l'état des entités d'un même genre (ennemis, fruits) dans
+ * des tableaux parallèles de types primitifs.
+ *
+ * <p>Chaque entité reçoit à son ajout un identifiant entier, son indice dans les tableaux. Les
+ * entités ne sont jamais retirées : un fruit mangé est seulement marqué. Un identifiant reste
+ * donc valable pendant toute la vie de la carte, et les entités d'une carte gardent l'ordre de
+ * leur ajout.</p>
+ *
+ * <p>Les boucles qui touchent toutes les entités à chaque pas (mise à jour, mémorisation des
+ * positions, instantanés, rendu) parcourent ces tableaux dans l'ordre, sans passer par un objet
+ * par entité. Les objets {@link Enemy} et {@link Fruit} restent utilisés par les index spatiaux
+ * et pour les cas rares ; ils ne gardent que leur identifiant et lisent leur état ici.</p>
+ *
+ * <p>Une entité peut recevoir des bornes de déplacement le long de l'axe de sa vitesse :
+ * {@link #advanceWithinBounds} la fait alors avancer et rebondir sur ces bornes sans consulter
+ * les murs.</p>
+ */
+public final class EntityStore {
+    /** L'entité est active et peut toucher le joueur. */
+    public static final int ACTIVE = 1;
+    /** L'entité se déplace verticalement plutôt qu'horizontalement. */
+    public static final int VERTICAL = 1 << 1;
+    /** L'entité a été retirée du jeu (fruit mangé). */
+    public static final int REMOVED = 1 << 2;
+    /** L'entité est mise à jour par son objet, jamais par {@link #advanceWithinBounds}. */
+    public static final int CUSTOM_UPDATE = 1 << 3;
+    /** Les bornes de déplacement de l'entité sont calculées. */
+    static final int BOUNDED = 1 << 4;
+    /** La borne inférieure (ou supérieure) s'arrête sur une case inconnue plutôt que sur un mur. */
+    static final int MIN_OPEN = 1 << 5;
+    static final int MAX_OPEN = 1 << 6;
+
+    /** Nombre d'entités. */
+    private int size;
+    /** Position de chaque entité, au pas courant et au pas précédent. */
+    private float[] x;
+    private float[] y;
+    private float[] previousX;
+    private float[] previousY;
+    /** Vitesse de chaque entité (en pixels par seconde). */
+    private float[] velocityX;
+    private float[] velocityY;
+    /** Taille de chaque entité (en pixels). */
+    private float[] width;
+    private float[] height;
+    /** Bornes de la coordonnée de chaque entité le long de l'axe de son déplacement. */
+    private float[] minBound;
+    private float[] maxBound;
+    /** Indicateurs de chaque entité. */
+    private int[] flags;
+
+    /**
+     * Initialise un stockage vide.
+     *
+     * @param capacity Le nombre d'entités prévu.
+     */
+    public EntityStore(int capacity) {
+        int length = Math.max(16, capacity);
+        x = new float[length];
+        y = new float[length];
+        previousX = new float[length];
+        previousY = new float[length];
+        velocityX = new float[length];
+        velocityY = new float[length];
+        width = new float[length];
+        height = new float[length];
+        minBound = new float[length];
+        maxBound = new float[length];
+        flags = new int[length];
+    }
+
+    /**
+     * Ajoute une entité immobile, sans bornes de déplacement.
+     *
+     * @param x      La coordonnée X de l'entité.
+     * @param y      La coordonnée Y de l'entité.
+     * @param width  La largeur de l'entité.
+     * @param height La hauteur de l'entité.
+     * @param flags  Les indicateurs de l'entité.
+     * @return L'identifiant de l'entité.
+     */
+    public int add(float x, float y, float width, float height, int flags) {
+        if (size == this.x.length) {
+            grow();
+        }
+        int handle = size++;
+        this.x[handle] = x;
+        this.y[handle] = y;
+        previousX[handle] = x;
+        previousY[handle] = y;
+        this.width[handle] = width;
+        this.height[handle] = height;
+        this.flags[handle] = flags & ~(BOUNDED | MIN_OPEN | MAX_OPEN);
+        return handle;
+    }
+
+    private void grow() {
+        int length = size * 2;
+        x = Arrays.copyOf(x, length);
+        y = Arrays.copyOf(y, length);
+        previousX = Arrays.copyOf(previousX, length);
+        previousY = Arrays.copyOf(previousY, length);
+        velocityX = Arrays.copyOf(velocityX, length);
+        velocityY = Arrays.copyOf(velocityY, length);
+        width = Arrays.copyOf(width, length);
+        height = Arrays.copyOf(height, length);
+        minBound = Arrays.copyOf(minBound, length);
+        maxBound = Arrays.copyOf(maxBound, length);
+        flags = Arrays.copyOf(flags, length);
+    }
+
+    /**
+     * Retourne le nombre d'entités.
+     *
+     * @return Le nombre d'entités ; les identifiants vont de {@code 0} à ce nombre exclu.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Mémorise la position de toutes les entités comme position du pas précédent.
+     */
+    public void savePositions() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+    }
+
+    /**
+     * Copie la position de toutes les entités.
+     *
+     * @param x Le tableau des coordonnées X, d'au moins {@link #size()} éléments.
+     * @param y Le tableau des coordonnées Y.
+     */
+    public void copyPositions(float[] x, float[] y) {
+        System.arraycopy(this.x, 0, x, 0, size);
+        System.arraycopy(this.y, 0, y, 0, size);
+    }
+
+    /**
+     * Copie la position de toutes les entités au pas précédent.
+     *
+     * @param previousX Le tableau des coordonnées X, d'au moins {@link #size()} éléments.
+     * @param previousY Le tableau des coordonnées Y.
+     */
+    public void copyPreviousPositions(float[] previousX, float[] previousY) {
+        System.arraycopy(this.previousX, 0, previousX, 0, size);
+        System.arraycopy(this.previousY, 0, previousY, 0, size);
+    }
+
+    /**
+     * Copie la vitesse de toutes les entités.
+     *
+     * @param velocityX Le tableau des vitesses horizontales, d'au moins {@link #size()} éléments.
+     * @param velocityY Le tableau des vitesses verticales.
+     */
+    public void copyVelocities(float[] velocityX, float[] velocityY) {
+        System.arraycopy(this.velocityX, 0, velocityX, 0, size);
+        System.arraycopy(this.velocityY, 0, velocityY, 0, size);
+    }
+
+    /**
+     * Vérifie si une entité active chevauche une boîte. Les bords sont exclusifs.
+     *
+     * @param handle L'identifiant de l'entité.
+     * @param boxX   La coordonnée X du coin inférieur gauche de la boîte.
+     * @param boxY   La coordonnée Y du coin inférieur gauche de la boîte.
+     * @param boxWidth  La largeur de la boîte.
+     * @param boxHeight La hauteur de la boîte.
+     * @return {@code true} si l'entité est active, non retirée et chevauche la boîte.
+     */
+    public boolean overlaps(int handle, float boxX, float boxY, float boxWidth, float boxHeight) {
+        return (flags[handle] & (ACTIVE | REMOVED)) == ACTIVE
+            && boxX < x[handle] + width[handle] && boxX + boxWidth > x[handle]
+            && boxY < y[handle] + height[handle] && boxY + boxHeight > y[handle];
+    }
+
+    /**
+     * Fait avancer une entité le long de sa vitesse, entre ses bornes de déplacement.
+     *
+     * <p>Une entité qui atteint une borne s'y arrête et sa vitesse s'inverse. Rien n'est fait, et
+     * l'objet de l'entité doit la mettre à jour lui-même, si l'entité n'a pas de bornes, si elle
+     * est mise à jour par son objet ou si elle dépasse une borne inconnue.</p>
+     *
+     * @param handle    L'identifiant de l'entité.
+     * @param deltaTime La durée du pas de simulation (en secondes).
+     * @return {@code true} si l'entité a été mise à jour, sinon {@code false}.
+     */
+    public boolean advanceWithinBounds(int handle, float deltaTime) {
+        int flag = flags[handle];
+        if ((flag & (BOUNDED | CUSTOM_UPDATE)) != BOUNDED) {
+            return false;
+        }
+        boolean vertical = (flag & VERTICAL) != 0;
+        float[] position = vertical ? y : x;
+        float[] velocity = vertical ? velocityY : velocityX;
+        float delta = velocity[handle] * deltaTime;
+        float target = position[handle] + delta;
+        if (delta > 0) {
+            if (target <= maxBound[handle]) {
+                position[handle] = target;
+            } else if ((flag & MAX_OPEN) == 0) {
+                bounce(position, velocity, handle, Math.max(position[handle], maxBound[handle]), target);
+            } else {
+                return false;
+            }
+        } else {
+            if (target >= minBound[handle]) {
+                position[handle] = target;
+            } else if ((flag & MIN_OPEN) == 0) {
+                bounce(position, velocity, handle, Math.min(position[handle], minBound[handle]), target);
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Arrête une entité sur une borne et inverse sa vitesse si la borne l'a empêchée d'avancer.
+     */
+    private static void bounce(float[] position, float[] velocity, int handle, float reached, float target) {
+        if (reached != target) {
+            velocity[handle] = -velocity[handle];
+        }
+        position[handle] = reached;
+    }
+
+    /**
+     * Définit les bornes de déplacement d'une entité.
+     *
+     * @param handle  L'identifiant de l'entité.
+     * @param min     La borne inférieure de la coordonnée, ou {@link Float#NEGATIVE_INFINITY}.
+     * @param max     La borne supérieure de la coordonnée, ou {@link Float#POSITIVE_INFINITY}.
+     * @param minOpen {@code true} si la borne inférieure s'arrête sur une case inconnue.
+     * @param maxOpen {@code true} si la borne supérieure s'arrête sur une case inconnue.
+     */
+    void setBounds(int handle, float min, float max, boolean minOpen, boolean maxOpen) {
+        minBound[handle] = min;
+        maxBound[handle] = max;
+        flags[handle] = (flags[handle] & ~(MIN_OPEN | MAX_OPEN)) | BOUNDED
+            | (minOpen ? MIN_OPEN : 0) | (maxOpen ? MAX_OPEN : 0);
+    }
+
+    /**
+     * Oublie les bornes de déplacement de toutes les entités, après une modification des murs.
+     */
+    void clearBounds() {
+        for (int handle = 0; handle < size; handle++) {
+            flags[handle] &= ~BOUNDED;
+        }
+    }
+
+    /**
+     * Place une entité à une position, sans déplacement à interpoler depuis le pas précédent.
+     */
+    void setPosition(int handle, float x, float y) {
+        this.x[handle] = x;
+        this.y[handle] = y;
+        previousX[handle] = x;
+        previousY[handle] = y;
+    }
+
+    float getMinBound(int handle) {
+        return minBound[handle];
+    }
+
+    float getMaxBound(int handle) {
+        return maxBound[handle];
+    }
+
+    public boolean hasFlag(int handle, int flag) {
+        return (flags[handle] & flag) != 0;
+    }
+
+    void setFlag(int handle, int flag, boolean value) {
+        flags[handle] = value ? flags[handle] | flag : flags[handle] & ~flag;
+    }
+
+    public float getX(int handle) {
+        return x[handle];
+    }
+
+    public float getY(int handle) {
+        return y[handle];
+    }
+
+    void setX(int handle, float x) {
+        this.x[handle] = x;
+    }
+
+    void setY(int handle, float y) {
+        this.y[handle] = y;
+    }
+
+    public float getPreviousX(int handle) {
+        return previousX[handle];
+    }
+
+    public float getPreviousY(int handle) {
+        return previousY[handle];
+    }
+
+    public float getVelocityX(int handle) {
+        return velocityX[handle];
+    }
+
+    public float getVelocityY(int handle) {
+        return velocityY[handle];
+    }
+
+    void setVelocity(int handle, float velocityX, float velocityY) {
+        this.velocityX[handle] = velocityX;
+        this.velocityY[handle] = velocityY;
+    }
+
+    public float getWidth(int handle) {
+        return width[handle];
+    }
+
+    public float getHeight(int handle) {
+        return height[handle];
+    }
+}
@@ -0,0 +1,182 @@
+package com.game.model;
+
+import java.util.Arrays;
+
+/**
+ * La classe {@code FlowField} calcule, par un parcours en largeur depuis la case du joueur, la
+ * distance de chaque case proche jusqu'au joueur et la direction à prendre pour s'en rapprocher.
+ *
+ * <p>Un seul parcours sert à tous les ennemis poursuivants : chacun lit ensuite sa prochaine case
+ * en temps constant, quel que soit leur nombre. Le champ n'est recalculé que lorsque le joueur
+ * change de case ou que la version de la grille change.</p>
+ *
+ * <p>Le parcours ne traverse que les cases connues de la grille ({@link WallGrid#isKnown}) : sur une
+ * carte infinie, le champ ne dépend pas des morceaux préchargés en arrière-plan, et il est
+ * recalculé quand la zone des morceaux connus se déplace.</p>
+ *
+ * <p>Le parcours ne sort pas d'un carré de {@link #RADIUS} cases autour du joueur : son coût ne
+ * dépend pas de la taille de la carte. Les ennemis plus éloignés utilisent le {@link PathFinder}.</p>
+ *
+ * <p>Le champ est recalculé pendant la phase séquentielle de la mise à jour des ennemis ; les
+ * lectures qui suivent peuvent être faites depuis plusieurs threads.</p>
+ */
+public class FlowField {
+    /** Distance maximale (en cases, sur chaque axe) entre une case du champ et la case du joueur. */
+    public static final int RADIUS = 48;
+
+    /** Côté du carré couvert par le champ (en cases). */
+    private static final int WINDOW = 2 * RADIUS + 1;
+    /** Distance des cases non atteintes par le parcours. */
+    private static final int UNREACHED = -1;
+    /** Décalages des quatre voisins d'une case : droite, gauche, haut, bas. */
+    private static final int[] NEIGHBOUR_X = {1, -1, 0, 0};
+    private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1};
+    /** Indice du voisin opposé à chacun des quatre voisins. */
+    private static final int[] OPPOSITE = {1, 0, 3, 2};
+
+    /** Grille des murs sur laquelle le champ est calculé. */
+    private final WallGrid grid;
+    /** Distance de chaque case jusqu'au joueur (en cases), ou {@link #UNREACHED}. */
+    private final int[] distance = new int[WINDOW * WINDOW];
+    /** Indice du voisin à rejoindre depuis chaque case atteinte pour se rapprocher du joueur. */
+    private final byte[] direction = new byte[WINDOW * WINDOW];
+    /** File du parcours en largeur. */
+    private final int[] queue = new int[WINDOW * WINDOW];
+    /** Indique si le champ correspond à la case {@link #goalX}, {@link #goalY}. */
+    private boolean valid;
+    /** Version de la grille lors du dernier calcul du champ. */
+    private int version;
+    /** Case du joueur, au centre du champ. */
+    private int goalX;
+    private int goalY;
+
+    /**
+     * Initialise un champ vide sur une grille des murs.
+     *
+     * @param grid La grille des murs.
+     */
+    public FlowField(WallGrid grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("WallGrid ne peut pas être null");
+        }
+        this.grid = grid;
+    }
+
+    /**
+     * Recalcule le champ si le joueur a changé de case ou si la grille a changé.
+     *
+     * @param goalX La colonne de la case du joueur.
+     * @param goalY La ligne de la case du joueur.
+     * @return {@code true} si le champ a été recalculé, sinon {@code false}.
+     */
+    public boolean update(int goalX, int goalY) {
+        if (valid && goalX == this.goalX && goalY == this.goalY && grid.getVersion() == version) {
+            return false;
+        }
+        this.goalX = goalX;
+        this.goalY = goalY;
+        version = grid.getVersion();
+        valid = true;
+        Arrays.fill(distance, UNREACHED);
+        if (!grid.isKnown(goalX, goalY) || grid.isWall(goalX, goalY)) {
+            return true; // Aucune case n'atteint le joueur
+        }
+
+        int originX = goalX - RADIUS;
+        int originY = goalY - RADIUS;
+        int goal = RADIUS * WINDOW + RADIUS;
+        distance[goal] = 0;
+        queue[0] = goal;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % WINDOW;
+            int y = cell / WINDOW;
+            for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+                int nx = x + NEIGHBOUR_X[i];
+                int ny = y + NEIGHBOUR_Y[i];
+                if (nx < 0 || ny < 0 || nx >= WINDOW || ny >= WINDOW) {
+                    continue;
+                }
+                int neighbour = ny * WINDOW + nx;
+                if (distance[neighbour] != UNREACHED || !grid.isKnown(originX + nx, originY + ny)
+                    || grid.isWall(originX + nx, originY + ny)) {
+                    continue;
+                }
+                distance[neighbour] = distance[cell] + 1;
+                direction[neighbour] = (byte) OPPOSITE[i];
+                queue[tail++] = neighbour;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Oublie le champ : il sera recalculé au prochain appel de {@link #update}.
+     */
+    public void clear() {
+        valid = false;
+    }
+
+    /**
+     * Retourne la distance d'une case jusqu'au joueur.
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case.
+     * @return La distance en cases, ou {@code -1} si la case n'est pas atteinte par le champ.
+     */
+    public int getDistance(int cellX, int cellY) {
+        int local = local(cellX, cellY);
+        return local < 0 ? UNREACHED : distance[local];
+    }
+
+    /**
+     * Vérifie si une case est atteinte par le champ.
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case.
+     * @return {@code true} si le champ donne un chemin vers le joueur depuis cette case.
+     */
+    public boolean reaches(int cellX, int cellY) {
+        return getDistance(cellX, cellY) != UNREACHED;
+    }
+
+    /**
+     * Retourne le décalage horizontal vers la case suivante, en direction du joueur.
+     *
+     * @param cellX La colonne d'une case atteinte par le champ.
+     * @param cellY La ligne de la case.
+     * @return {@code -1}, {@code 0} ou {@code 1} ; {@code 0} sur la case du joueur.
+     */
+    public int getStepX(int cellX, int cellY) {
+        int local = local(cellX, cellY);
+        return local < 0 || distance[local] <= 0 ? 0 : NEIGHBOUR_X[direction[local]];
+    }
+
+    /**
+     * Retourne le décalage vertical vers la case suivante, en direction du joueur.
+     *
+     * @param cellX La colonne d'une case atteinte par le champ.
+     * @param cellY La ligne de la case.
+     * @return {@code -1}, {@code 0} ou {@code 1} ; {@code 0} sur la case du joueur.
+     */
+    public int getStepY(int cellX, int cellY) {
+        int local = local(cellX, cellY);
+        return local < 0 || distance[local] <= 0 ? 0 : NEIGHBOUR_Y[direction[local]];
+    }
+
+    /**
+     * Convertit une case en indice dans le champ.
+     *
+     * @return L'indice de la case, ou {@code -1} si elle est hors du champ.
+     */
+    private int local(int cellX, int cellY) {
+        int x = cellX - goalX + RADIUS;
+        int y = cellY - goalY + RADIUS;
+        if (!valid || x < 0 || y < 0 || x >= WINDOW || y >= WINDOW) {
+            return -1;
+        }
+        return y * WINDOW + x;
+    }
+}
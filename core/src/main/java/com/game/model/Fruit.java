@@ -1,7 +1,6 @@
 package com.game.model;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.game.controller.AudioManager;
 
 /**
  * La classe {@code Fruit} représente un objet collectable dans le jeu.
@@ -12,62 +11,65 @@ import com.game.controller.AudioManager;
  * <p>Cette classe hérite de {@link Entity} et ajoute une logique pour vérifier
  * si le fruit a été collecté (mangé).</p>
  *
+ * <p>La position, la taille et l'état du fruit sont rangés dans l'{@link EntityStore} des fruits
+ * de la carte ; l'objet n'en garde que l'identifiant.</p>
+ *
  */
 public class Fruit extends Entity {
-    /** Indique si le fruit a été collecté (mangé) par le joueur. */
-    private boolean isEaten;
-    /** Largeur du fruit pour la détection de collisions et le rendu graphique. */
-    private float width;
-    /** Hauteur du fruit pour la détection de collisions et le rendu graphique. */
-    private float height;
-    /** Son de l'interface. */
-    private AudioManager audioManager; // Ajouter un attribut AudioManager
+    /** Stockage où est rangé l'état du fruit. */
+    private final EntityStore store;
+    /** Identifiant du fruit dans {@link #store}. */
+    private final int handle;
 
     /**
      * Initialise un fruit avec des coordonnées spécifiques et une texture.
      *
+     * <p>Le fruit est ajouté au stockage, avec la taille d'une tuile.</p>
+     *
+     * @param store       Le stockage des fruits de la carte.
      * @param x           La position initiale horizontale du fruit.
      * @param y           La position initiale verticale du fruit.
      * @param texturePath Le chemin de la texture utilisée pour afficher le fruit.
      */
-    public Fruit(float x, float y, String texturePath) {
-        super(x, y, texturePath); // Appelle le constructeur de Entity pour initialiser la position et la texture
-        this.isEaten = false;
-        this.width = 32; // Par défaut, largeur d'une tuile
-        this.height = 32; // Par défaut, hauteur d'une tuile
+    public Fruit(EntityStore store, float x, float y, String texturePath) {
+        super(texturePath);
+        if (store == null) {
+            throw new IllegalArgumentException("EntityStore ne peut pas être null");
+        }
+        this.store = store;
+        this.handle = store.add(x, y, 32, 32, EntityStore.ACTIVE); // Par défaut, taille d'une tuile
     }
 
     /**
      * Affiche le fruit sur l'écran si celui-ci n'a pas encore été collecté.
      *
-     * <p>Utilise la méthode {@link Entity#render(SpriteBatch)} pour dessiner le fruit.</p>
-     *
      * @param batch Le {@link SpriteBatch} utilisé pour dessiner le fruit.
      */
     @Override
     public void render(SpriteBatch batch) {
-        if (!isEaten) { // Ne dessine que si le fruit n'est pas mangé
-            super.render(batch); // Utilise la méthode render d'Entity
+        if (!isEaten()) { // Ne dessine que si le fruit n'est pas mangé
+            batch.draw(getRegion(), getX(), getY(), 64, 64);
         }
     }
 
     /**
      * Affiche le fruit avec des décalages et une échelle spécifiés.
      *
+     * <p>L'appelant vérifie au préalable, d'après un instantané de la simulation,
+     * que le fruit n'a pas été mangé.</p>
+     *
      * @param batch   Le {@link SpriteBatch} utilisé pour dessiner le fruit.
      * @param offsetX Décalage horizontal appliqué au rendu.
      * @param offsetY Décalage vertical appliqué au rendu.
      * @param scale   Facteur d'échelle appliqué à la largeur et à la hauteur.
      */
     public void render(SpriteBatch batch, float offsetX, float offsetY, float scale) {
-        if (!isEaten) { // Ne dessine que si le fruit n'est pas mangé
-            batch.draw(texture,
-                offsetX + x * scale,
-                offsetY + y * scale,
-                width * scale,          // Appliquer l'échelle sur la largeur
-                height * scale          // Appliquer l'échelle sur la hauteur
-            );
-        }
+        batch.draw(getRegion(),
+            offsetX + getX() * scale,
+            offsetY + getY() * scale,
+            store.getWidth(handle) * scale,          // Appliquer l'échelle sur la largeur
+            store.getHeight(handle) * scale          // Appliquer l'échelle sur la hauteur
+        );
     }
 
     /**
@@ -83,13 +85,47 @@ public class Fruit extends Entity {
      *         sinon {@code false}.
      */
     public boolean checkCollision(float playerX, float playerY, float playerWidth, float playerHeight) {
-        if (!isEaten
-            && playerX < x + 32 && playerX + playerWidth > x
-            && playerY < y + 32 && playerY + playerHeight > y) {
-            isEaten = true; // Marque le fruit comme mangé
+        if (store.overlaps(handle, playerX, playerY, playerWidth, playerHeight)) {
+            setEaten(true); // Marque le fruit comme mangé
             return true; // Collision détectée
-
         }
         return false; // Pas de collision
     }
+
+    /**
+     * Retourne l'identifiant du fruit, son indice dans le stockage et dans {@link GameMap#getFruits()}.
+     *
+     * @return L'identifiant du fruit.
+     */
+    public int getHandle() {
+        return handle;
+    }
+
+    @Override
+    public float getX() {
+        return store.getX(handle);
+    }
+
+    @Override
+    public float getY() {
+        return store.getY(handle);
+    }
+
+    @Override
+    public float getPreviousX() {
+        return store.getX(handle);
+    }
+
+    @Override
+    public float getPreviousY() {
+        return store.getY(handle);
+    }
+
+    public boolean isEaten() {
+        return store.hasFlag(handle, EntityStore.REMOVED);
+    }
+
+    void setEaten(boolean eaten) {
+        store.setFlag(handle, EntityStore.REMOVED, eaten);
+    }
 }
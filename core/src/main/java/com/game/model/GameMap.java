@@ -1,18 +1,30 @@
 package com.game.model;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.utils.JsonReader;
-import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.game.assets.AssetPaths;
+import com.game.assets.TextureRegistry;
 import com.game.controller.AudioManager;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
- * La classe {@code GameMap} représente la carte du jeu chargée depuis un fichier JSON.
+ * La classe {@code GameMap} représente la carte du jeu chargée depuis un fichier Tiled JSON
+ * ou depuis sa version compilée ({@link MapFormat}).
  *
  * <p>Elle gère les éléments essentiels de la carte, notamment :</p>
  * <ul>
@@ -26,8 +38,24 @@ import java.util.List;
  * <p>La classe assure également la détection des collisions et le traitement des objets
  * dynamiquement ajoutés via l'éditeur de cartes Tiled.</p>
  *
+ * <p>La simulation ne dépend ni de la fenêtre ni du temps réel : elle avance par
+ * {@link #step(SimulationClock, InputSource)} et les textures ne sont chargées qu'au premier
+ * rendu. Une carte peut donc être simulée sans affichage, depuis des tests, un robot ou un serveur.</p>
+ *
+ * <p>Une carte infinie de Tiled est découpée en morceaux ({@link ChunkedWallGrid}) : seuls les
+ * murs proches du joueur sont gardés en mémoire, et seuls les ennemis proches du joueur sont
+ * mis à jour.</p>
  */
 public class GameMap {
+    /** Identifiant (dans le tileset) de la tuile utilisée pour les murs. */
+    private static final int WALL_TILE_ID = 0;
+    /** Nombre d'ennemis à partir duquel ils sont mis à jour en parallèle, par défaut. */
+    public static final int DEFAULT_PARALLEL_ENEMY_THRESHOLD = 2048;
+    /** Nombre d'ennemis mis à jour par une même tâche parallèle. */
+    private static final int ENEMIES_PER_TASK = 256;
+    /** Nombre maximal de cases des index spatiaux, atteint en agrandissant leurs cases. */
+    private static final int MAX_INDEX_CELLS = 1 << 20;
+
     /** Largeur de la carte (en nombre de tuiles). */
     private int mapWidth;
     /** Hauteur de la carte (en nombre de tuiles). */
@@ -36,26 +64,66 @@ public class GameMap {
     private int tileWidth;
     /** Hauteur d'une tuile (en pixels). */
     private int tileHeight;
-    /** Texture utilisée pour le tileset. */
-    private Texture tilesetTexture;
+    /** Chemin de l'image du tileset, clé de sa texture dans le {@link TextureRegistry}. */
+    private String tilesetPath;
+    /** Région de texture utilisée pour le tileset. */
+    private TextureRegion tilesetRegion;
     /** Tableau des régions de texture extraites du tileset. */
     private TextureRegion[][] tiles;
-    /** Liste des murs et obstacles présents sur la carte. */
+    /** Texture de la seule tuile des murs, répétée pour couvrir un rectangle de murs, ou {@code null}. */
+    private Texture wallTexture;
+    /** Liste des murs et obstacles présents sur la carte, construite au premier rendu. */
     private List<Tile> walls;
+    /** Murs d'une carte finie fusionnés en rectangles, ou {@code null} pour une carte infinie. */
+    private WallRectangles wallRectangles;
+    /** Distance de chaque case d'une carte finie jusqu'au mur le plus proche, ou {@code null}. */
+    private DistanceField distanceField;
+    /** Grille des murs utilisée pour la détection des collisions. */
+    private WallGrid wallGrid;
+    /** Grille des murs d'une carte finie, ou {@code null} pour une carte infinie. */
+    private OccupancyGrid occupancyGrid;
+    /** Grille des murs d'une carte infinie, ou {@code null} pour une carte finie. */
+    private ChunkedWallGrid chunkedWalls;
     /** Instance du joueur initialisée depuis la carte. */
     private Player player;
     /** Liste des zones de fin (EndZone) présentes sur la carte. */
     private List<EndZone> endZones;
-    /** Liste des fruits collectables présents sur la carte. */
+    /** Liste des fruits collectables présents sur la carte, rangés par identifiant. */
     private List<Fruit> fruits;
-    /** Liste des ennemis présents sur la carte. */
+    /** Liste des ennemis présents sur la carte, rangés par identifiant. */
     private List<Enemy> enemies;
+    /** État des fruits, en tableaux parallèles. */
+    private EntityStore fruitStore;
+    /** État des ennemis, en tableaux parallèles. */
+    private EntityStore enemyStore;
+    /** Version de la grille des murs pour laquelle les bornes de patrouille ont été calculées. */
+    private int boundsVersion;
+    /** Index spatial des fruits encore présents sur la carte. */
+    private SpatialHash<Fruit> fruitIndex;
+    /** Index spatial des ennemis, mis à jour à chaque déplacement. */
+    private SpatialHash<Enemy> enemyIndex;
+    /** Service de recherche de chemin utilisé par les ennemis poursuivants. */
+    private PathFinder pathFinder;
+    /** Graphe hiérarchique des chemins d'une grande carte finie, ou {@code null}. */
+    private ClusterGraph clusterGraph;
+    /** Champ de flux vers le joueur, partagé par les ennemis poursuivants proches. */
+    private FlowField flowField;
+    /** Ennemis proches du joueur sur une carte infinie, recalculés à chaque pas. */
+    private final List<Enemy> simulatedEnemies = new ArrayList<>();
     private AudioManager audioManager;
+    /** Nombre d'ennemis à partir duquel la mise à jour est répartie sur plusieurs cœurs. */
+    private int parallelEnemyThreshold = DEFAULT_PARALLEL_ENEMY_THRESHOLD;
+    /** État de la carte juste après son chargement, restauré par {@link #reset()}. */
+    private MapState initialState;
 
     /**
      * Initialise une nouvelle carte de jeu à partir d'un fichier JSON.
      *
+     * <p>Le constructeur ne touche ni à OpenGL ni à l'audio : une carte peut être construite
+     * sur un thread d'arrière-plan.</p>
+     *
      * @param mapFile Chemin du fichier JSON décrivant la carte.
+     * @throws IllegalStateException si la carte ne peut pas être lue.
      */
     public GameMap(String mapFile, AudioManager audioManager) {
         if (audioManager == null) {
@@ -63,147 +131,616 @@ public class GameMap {
         }
         this.audioManager = audioManager;
 
-        // Lancer la musique de fond
-        audioManager.playBackgroundMusic();
-
-        walls = new ArrayList<>();
         fruits = new ArrayList<>();
         enemies = new ArrayList<>();
+        fruitStore = new EntityStore(0);
+        enemyStore = new EntityStore(0);
         endZones = new ArrayList<>();
         loadMap(mapFile);
+        if (occupancyGrid != null) {
+            wallRectangles = WallRectangles.merge(occupancyGrid);
+            distanceField = DistanceField.compute(occupancyGrid);
+        }
+        buildClusterGraph();
+        buildEntityIndexes();
+        focusChunks();
+        computePatrols();
+        initialState = new MapState(this);
+        initialState.capture(this);
+    }
+
+    /**
+     * Remet la carte dans son état initial, tel qu'il était juste après le chargement.
+     *
+     * <p>Seul l'état en mémoire est restauré : le fichier de la carte n'est pas relu et les
+     * textures déjà chargées sont conservées.</p>
+     */
+    public void reset() {
+        initialState.restore(this);
+        if (pathFinder != null) {
+            pathFinder.clear();
+        }
+        if (flowField != null) {
+            flowField.clear();
+        }
+        focusChunks();
+    }
+
+    /**
+     * Charge les morceaux d'une carte infinie autour du joueur.
+     */
+    private void focusChunks() {
+        if (chunkedWalls != null && player != null) {
+            chunkedWalls.focus(player.getX(), player.getY());
+        }
+    }
+
+    /**
+     * Avance la simulation de la carte d'un pas de temps fixe.
+     *
+     * <p>Un pas met à jour les ennemis, déplace le joueur selon les commandes de la source
+     * d'entrées, traite les collisions puis met à jour l'état du joueur. Les positions
+     * précédentes sont mémorisées pour permettre l'interpolation lors du rendu. L'horloge
+     * passe ensuite au pas suivant.</p>
+     *
+     * @param clock L'horloge de la simulation, qui fournit le numéro et la durée du pas.
+     * @param input La source des commandes du joueur.
+     */
+    public void step(SimulationClock clock, InputSource input) {
+        float deltaTime = clock.getStepSeconds();
+
+        focusChunks();
+        player.savePosition();
+        enemyStore.savePositions();
+
+        updateEnemies(deltaTime);
+        player.handleInput(this, input.poll(clock.getTick()), deltaTime);
+        checkCollisions(deltaTime);
+        player.update(deltaTime);
+        clock.advance();
     }
 
-    public void checkCollisions() {
+    /**
+     * Traite les collisions du joueur avec les fruits et les ennemis.
+     *
+     * @param deltaTime La durée du pas de simulation (en secondes).
+     */
+    public void checkCollisions(float deltaTime) {
         // Déléguer la gestion des collisions au joueur
-        player.handleFruitCollision(fruits);
-        player.handleEnemyCollision(enemies);
+        player.handleFruitCollision(fruitIndex);
+        player.handleEnemyCollision(enemyIndex, deltaTime);
     }
 
     /**
-     * Charge les données de la carte depuis un fichier JSON.
+     * Met à jour tous les ennemis puis leur position dans l'index spatial.
+     *
+     * <p>Au-delà de {@link #getParallelEnemyThreshold()} ennemis, les mises à jour sont réparties
+     * sur le {@link ForkJoinPool} commun. Un ennemi ne lit que la disposition des murs et son
+     * propre état : le résultat est identique à celui de la mise à jour séquentielle. L'index
+     * spatial est ensuite mis à jour séquentiellement.</p>
+     *
+     * <p>Sur une carte finie, les ennemis sont parcourus dans l'{@link EntityStore} par identifiant :
+     * un ennemi qui patrouille entre des bornes connues avance sans que son objet soit lu. Sur
+     * une carte infinie, seuls les ennemis proches du joueur sont mis à jour.</p>
+     *
+     * <p>Les ennemis poursuivants préparent d'abord leur trajet vers la case du joueur,
+     * séquentiellement et dans l'ordre des ennemis, après que le {@link FlowField} a été mis à
+     * jour et que le {@link PathFinder} a avancé ses recherches dans la limite de son budget.</p>
+     *
+     * @param deltaTime Le temps écoulé depuis la dernière mise à jour (en secondes).
+     */
+    public void updateEnemies(float deltaTime) {
+        if (wallGrid.getVersion() != boundsVersion) {
+            enemyStore.clearBounds();
+            boundsVersion = wallGrid.getVersion();
+        }
+
+        // Ennemis à mettre à jour sur une carte infinie ; null pour tous les ennemis
+        List<Enemy> selected = chunkedWalls != null ? chunkedWalls.querySimulated(enemyIndex, simulatedEnemies) : null;
+        int count = selected != null ? selected.size() : enemyStore.size();
+        planChasingEnemies(selected, count);
+        if (count >= parallelEnemyThreshold) {
+            ForkJoinPool.commonPool().invoke(new EnemyUpdateTask(this, selected, deltaTime, 0, count));
+        } else {
+            updateEnemyRange(selected, deltaTime, 0, count);
+        }
+        for (Enemy enemy : selected != null ? selected : enemies) {
+            enemyIndex.update(enemy);
+        }
+    }
+
+    /**
+     * Met à jour une plage d'ennemis : dans le stockage si l'ennemi patrouille entre des bornes
+     * connues, sinon par son objet.
+     *
+     * @param selected  Les ennemis à mettre à jour, ou {@code null} pour tous les ennemis.
+     * @param deltaTime Le temps écoulé depuis la dernière mise à jour (en secondes).
+     * @param from      L'indice du premier ennemi de la plage.
+     * @param to        L'indice suivant le dernier ennemi de la plage.
+     */
+    private void updateEnemyRange(List<Enemy> selected, float deltaTime, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int handle = selected != null ? selected.get(i).getHandle() : i;
+            if (!enemyStore.advanceWithinBounds(handle, deltaTime)) {
+                enemies.get(handle).update(deltaTime, this);
+            }
+        }
+    }
+
+    /**
+     * Met à jour le champ de flux, fait avancer les recherches de chemin puis prépare le trajet des
+     * ennemis poursuivants. Rien n'est calculé sur une carte sans ennemi poursuivant.
+     *
+     * @param selected Les ennemis mis à jour pendant ce pas, ou {@code null} pour tous les ennemis.
+     * @param count    Le nombre d'ennemis mis à jour pendant ce pas.
+     */
+    private void planChasingEnemies(List<Enemy> selected, int count) {
+        int goalX = (int) Math.floor((player.getX() + tileWidth / 2f) / tileWidth);
+        int goalY = (int) Math.floor((player.getY() + tileHeight / 2f) / tileHeight);
+        boolean prepared = false;
+        for (int i = 0; i < count; i++) {
+            int handle = selected != null ? selected.get(i).getHandle() : i;
+            if (enemyStore.hasFlag(handle, EntityStore.CUSTOM_UPDATE)) {
+                if (!prepared) {
+                    flowField.update(goalX, goalY);
+                    pathFinder.update();
+                    prepared = true;
+                }
+                ((ChasingEnemy) enemies.get(handle)).plan(pathFinder, flowField, goalX, goalY, tileWidth, tileHeight);
+            }
+        }
+    }
+
+    /**
+     * Construit le graphe hiérarchique des chemins d'une carte finie trop grande pour le carré de
+     * recherche du {@link PathFinder}.
+     */
+    private void buildClusterGraph() {
+        if (occupancyGrid == null || Math.max(mapWidth, mapHeight) <= PathFinder.SEARCH_RADIUS) {
+            return;
+        }
+        clusterGraph = new ClusterGraph(occupancyGrid);
+        pathFinder.setClusterGraph(clusterGraph);
+    }
+
+    /**
+     * Calcule les bornes de la patrouille des ennemis, une fois tous les murs de la carte lus.
+     */
+    private void computePatrols() {
+        boundsVersion = wallGrid.getVersion();
+        for (Enemy enemy : enemies) {
+            if (!(enemy instanceof ChasingEnemy)) {
+                enemy.computePatrol(wallGrid, tileWidth, tileHeight);
+            }
+        }
+    }
+
+    /**
+     * Construit les index spatiaux des fruits et des ennemis chargés depuis la carte.
+     *
+     * <p>Les cases de l'index ont la taille d'une tuile, ce qui correspond à la taille
+     * des entités. Sur une très grande carte, les cases sont agrandies pour que l'index ne
+     * dépasse pas {@link #MAX_INDEX_CELLS} cases.</p>
+     */
+    private void buildEntityIndexes() {
+        long tileCount = (long) Math.max(1, mapWidth) * Math.max(1, mapHeight);
+        int tilesPerCell = Math.max(1, (int) Math.ceil(Math.sqrt((double) tileCount / MAX_INDEX_CELLS)));
+        int columns = Math.max(1, (mapWidth + tilesPerCell - 1) / tilesPerCell);
+        int rows = Math.max(1, (mapHeight + tilesPerCell - 1) / tilesPerCell);
+        float cellWidth = Math.max(1, tileWidth) * tilesPerCell;
+        float cellHeight = Math.max(1, tileHeight) * tilesPerCell;
+
+        fruitIndex = new SpatialHash<>(columns, rows, cellWidth, cellHeight);
+        for (Fruit fruit : fruits) {
+            if (!fruit.isEaten()) {
+                fruitIndex.insert(fruit);
+            }
+        }
+
+        enemyIndex = new SpatialHash<>(columns, rows, cellWidth, cellHeight);
+        for (Enemy enemy : enemies) {
+            enemyIndex.insert(enemy);
+        }
+    }
+
+    /**
+     * Charge les données de la carte.
+     *
+     * <p>La carte compilée ({@link MapFormat}) est lue si elle existe et n'est pas plus ancienne
+     * que la carte Tiled JSON ; sinon, ou si elle est illisible, la carte Tiled JSON est analysée.
+     * Pendant le développement, une carte modifiée dans Tiled est donc utilisée sans recompiler
+     * les cartes.</p>
      *
      * @param mapFile Chemin du fichier JSON décrivant la carte.
+     * @throws IllegalStateException si aucun des deux fichiers ne donne une carte avec un joueur.
      */
     private void loadMap(String mapFile) {
-        try {
-            JsonReader jsonReader = new JsonReader();
-            JsonValue mapData = jsonReader.parse(Gdx.files.internal(mapFile));
-
-            // Charger les propriétés de la carte
-            mapWidth = mapData.getInt("width");
-            mapHeight = mapData.getInt("height");
-            tileWidth = mapData.getInt("tilewidth");
-            tileHeight = mapData.getInt("tileheight");
-
-            // Charger les tilesets
-            JsonValue tilesets = mapData.get("tilesets").get(0);
-            String imagePath = tilesets.getString("image");
-            tilesetTexture = new Texture(Gdx.files.internal(imagePath));
-            tiles = TextureRegion.split(tilesetTexture, tileWidth, tileHeight);
-
-            // Charger les couches
-            JsonValue layers = mapData.get("layers");
-            for (JsonValue layer : layers) {
-                String layerType = layer.getString("type");
-
-                if ("tilelayer".equals(layerType)) {
-                    parseTileLayer(layer);
-                } else if ("objectgroup".equals(layerType)) {
-                    parseObjectLayer(layer);
-                }
+        FileHandle jsonFile = Gdx.files.internal(mapFile);
+        FileHandle binaryFile = Gdx.files.internal(MapFormat.binaryPath(mapFile));
+        // Dans une archive, les dates sont inconnues (0) : la carte compilée est alors utilisée
+        boolean stale = binaryFile.exists() && jsonFile.exists() && jsonFile.lastModified() > binaryFile.lastModified();
+        if (stale) {
+            System.out.println("Carte compilée plus ancienne que " + mapFile + " : la carte JSON est utilisée");
+        } else if (binaryFile.exists()) {
+            try {
+                loadBinaryMap(binaryFile);
+                return;
+            } catch (Exception e) {
+                System.out.println("Erreur lors du chargement de la carte compilée : " + e.getMessage());
+                clearMap();
             }
+        }
 
+        try {
+            loadJsonMap(jsonFile);
         } catch (Exception e) {
             System.out.println("Erreur lors du chargement de la carte JSON : " + e.getMessage());
+            clearMap();
         }
+        if (wallGrid == null || player == null) {
+            throw new IllegalStateException("Carte illisible : " + mapFile);
+        }
+    }
+
+    /**
+     * Oublie tout ce qu'un chargement interrompu a lu, avant de lire la carte depuis un autre
+     * fichier : entités, dimensions et grilles. La grille par morceaux éventuelle est fermée.
+     */
+    private void clearMap() {
+        fruits.clear();
+        enemies.clear();
+        fruitStore = new EntityStore(0);
+        enemyStore = new EntityStore(0);
+        endZones.clear();
+        player = null;
+        if (chunkedWalls != null) {
+            chunkedWalls.close();
+            chunkedWalls = null;
+        }
+        occupancyGrid = null;
+        wallGrid = null;
+        pathFinder = null;
+        flowField = null;
+        mapWidth = 0;
+        mapHeight = 0;
+        tileWidth = 0;
+        tileHeight = 0;
+        tilesetPath = null;
     }
 
     /**
-     * Analyse une couche de tuiles (Tile Layer) et initialise les murs.
+     * Charge les données de la carte depuis un fichier JSON.
+     *
+     * <p>Le fichier est lu en un seul passage par un {@link TiledJsonReader}, sans arbre JSON
+     * intermédiaire.</p>
      *
-     * @param layer Les données JSON de la couche de tuiles.
+     * @param mapFile Le fichier JSON décrivant la carte.
+     * @throws IOException si le fichier ne peut pas être lu.
      */
-    private void parseTileLayer(JsonValue layer) {
-        JsonValue data = layer.get("data");
-        int index = 0;
+    private void loadJsonMap(FileHandle mapFile) throws IOException {
+        TiledJsonReader reader;
+        try (InputStream in = mapFile.read()) {
+            reader = new TiledJsonReader(in);
+            reader.read();
+        }
+
+        if (reader.isInfinite()) {
+            loadInfiniteJsonMap(reader);
+            return;
+        }
 
-        for (int y = 0; y < mapHeight; y++) {
-            for (int x = 0; x < mapWidth; x++) {
-                int tileId = data.getInt(index++) - 1;
+        // Charger les propriétés de la carte et le tileset
+        initMap(reader.getWidth(), reader.getHeight(), reader.getTileWidth(), reader.getTileHeight(),
+            reader.getTilesetImage());
 
-                if (tileId == 0) { // ID des murs
-                    TextureRegion region = tiles[tileId / tiles[0].length][tileId % tiles[0].length];
-                    walls.add(new Tile(x * tileWidth, (mapHeight - y - 1) * tileHeight, region, tileWidth, tileHeight));
+        // Charger les couches de tuiles
+        for (int[] tiles : reader.getTileLayers()) {
+            int index = 0;
+            for (int y = 0; y < mapHeight && index < tiles.length; y++) {
+                for (int x = 0; x < mapWidth && index < tiles.length; x++) {
+                    setTile(x, y, tiles[index++]);
                 }
             }
         }
+
+        // Charger les objets
+        for (TiledJsonReader.MapObject object : reader.getObjects()) {
+            addObject(object.type, object.x, object.y, object.movementType);
+        }
     }
 
     /**
-     * Analyse une couche d'objets (Object Layer) et initialise les entités dynamiques.
+     * Charge une carte infinie lue depuis un fichier JSON.
+     *
+     * <p>Les morceaux de Tiled peuvent avoir des coordonnées négatives : la carte est décalée
+     * pour que son coin supérieur gauche, aligné sur les morceaux, devienne l'origine. Les objets
+     * sont décalés de la même façon.</p>
      *
-     * @param layer Les données JSON de la couche d'objets.
+     * @param reader Le lecteur ayant lu la carte.
      */
-    private void parseObjectLayer(JsonValue layer) {
-        JsonValue objects = layer.get("objects");
-        for (JsonValue object : objects) {
-            String type = object.getString("type");
-            float x = object.getFloat("x");
-            float y = object.getFloat("y");
+    private void loadInfiniteJsonMap(TiledJsonReader reader) {
+        List<TiledJsonReader.TileChunk> chunks = reader.getTileChunks();
+        int chunkWidth = chunks.isEmpty() ? 16 : chunks.get(0).width;
+        int chunkHeight = chunks.isEmpty() ? 16 : chunks.get(0).height;
+
+        // Limites de la carte, alignées sur les morceaux
+        int minX = 0, minY = 0, maxX = chunkWidth, maxY = chunkHeight;
+        if (!chunks.isEmpty()) {
+            minX = minY = Integer.MAX_VALUE;
+            maxX = maxY = Integer.MIN_VALUE;
+            for (TiledJsonReader.TileChunk chunk : chunks) {
+                minX = Math.min(minX, chunk.x);
+                minY = Math.min(minY, chunk.y);
+                maxX = Math.max(maxX, chunk.x + chunk.width);
+                maxY = Math.max(maxY, chunk.y + chunk.height);
+            }
+            minX = Math.floorDiv(minX, chunkWidth) * chunkWidth;
+            minY = Math.floorDiv(minY, chunkHeight) * chunkHeight;
+        }
+        int columns = (maxX - minX + chunkWidth - 1) / chunkWidth;
+        int rows = (maxY - minY + chunkHeight - 1) / chunkHeight;
+
+        MemoryChunkSource source = new MemoryChunkSource(chunkWidth, chunkHeight, columns, rows);
+        initChunkedMap(source, reader.getTileWidth(), reader.getTileHeight(), reader.getTilesetImage());
+
+        // Charger les morceaux des couches de tuiles
+        for (TiledJsonReader.TileChunk chunk : chunks) {
+            int index = 0;
+            for (int y = 0; y < chunk.height && index < chunk.data.length; y++) {
+                for (int x = 0; x < chunk.width && index < chunk.data.length; x++) {
+                    if (chunk.data[index++] - 1 == WALL_TILE_ID) {
+                        source.setWall(chunk.x - minX + x, mapHeight - (chunk.y - minY + y) - 1);
+                    }
+                }
+            }
+        }
+
+        // Charger les objets, décalés comme les tuiles
+        for (TiledJsonReader.MapObject object : reader.getObjects()) {
+            addObject(object.type, object.x - minX * tileWidth, object.y - minY * tileHeight, object.movementType);
+        }
+    }
 
-            float convertedY = (mapHeight * tileHeight) - y - tileHeight;
+    /**
+     * Charge les données de la carte depuis une carte compilée ({@link MapFormat}).
+     *
+     * @param mapFile Le fichier de la carte compilée.
+     * @throws IllegalArgumentException si le fichier n'est pas une carte compilée de version connue.
+     */
+    private void loadBinaryMap(FileHandle mapFile) {
+        ByteBuffer buffer = readMapBuffer(mapFile);
 
-            if ("player".equals(type)) {
-                player = new Player(x, convertedY,audioManager); // Position ajustée
-            } else if ("fruit".equals(type)) {
-                fruits.add(new Fruit(x, convertedY, AssetPaths.FRUIT_TEXTURE)); // Position ajustée
-            } else if ("end".equals(type)) {
-                endZones.add(new EndZone(x, convertedY, tileWidth, tileHeight));
-            } else if ("enemy".equals(type)) {
-                String movementType = "horizontal"; // Valeur par défaut
+        if (buffer.getInt() != MapFormat.MAGIC) {
+            throw new IllegalArgumentException(mapFile.path() + " n'est pas une carte compilée");
+        }
+        int version = buffer.getShort();
+        if (version == MapFormat.VERSION_CHUNKED) {
+            loadChunkedBinaryMap(buffer);
+            return;
+        }
+        if (version != MapFormat.VERSION) {
+            throw new IllegalArgumentException("Version de carte compilée non supportée : " + version);
+        }
 
-                // Vérifier si des propriétés existent pour cet objet
-                JsonValue properties = object.get("properties");
-                if (properties != null) {
-                    // Parcourir les propriétés pour trouver "movable"
-                    for (JsonValue property : properties) {
-                        if ("movable".equals(property.getString("name"))) {
-                            movementType = property.getString("value");
-                            break; // On a trouvé la propriété, pas besoin de continuer
-                        }
-                    }
+        int width = buffer.getInt();
+        int height = buffer.getInt();
+        int tileW = buffer.getInt();
+        int tileH = buffer.getInt();
+        byte[] tileset = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(tileset);
+        initMap(width, height, tileW, tileH, new String(tileset, StandardCharsets.UTF_8));
+
+        int layerCount = buffer.getInt();
+        int objectCount = buffer.getInt();
+
+        // Couches de tuiles : lues d'un bloc sous forme d'entiers
+        IntBuffer tileData = buffer.asIntBuffer();
+        for (int layer = 0; layer < layerCount; layer++) {
+            for (int y = 0; y < mapHeight; y++) {
+                for (int x = 0; x < mapWidth; x++) {
+                    setTile(x, y, tileData.get());
                 }
+            }
+        }
+        buffer.position(buffer.position() + tileData.position() * Integer.BYTES);
+
+        // Table des objets
+        for (int i = 0; i < objectCount; i++) {
+            String type = MapFormat.OBJECT_TYPES[buffer.get()];
+            float x = buffer.getFloat();
+            float y = buffer.getFloat();
+            String movementType = MapFormat.MOVEMENT_TYPES[buffer.get()];
+            addObject(type, x, y, movementType);
+        }
+    }
 
-                // Déterminer si l'ennemi se déplace verticalement
-                boolean isVertical = "vertical".equals(movementType);
-                String horizontalTexture = AssetPaths.HORIZONTAL_ENEMY;
-                String verticalTexture = AssetPaths.VERTICAL_ENEMY;
+    /**
+     * Charge une carte infinie compilée ({@link MapFormat#VERSION_CHUNKED}), dont l'en-tête a
+     * déjà été lu jusqu'à la version.
+     *
+     * <p>Seuls l'en-tête et la table des objets sont lus : les murs des morceaux sont lus dans
+     * le tampon à la demande, par la {@link ChunkedWallGrid}.</p>
+     *
+     * @param buffer Le contenu de la carte compilée.
+     */
+    private void loadChunkedBinaryMap(ByteBuffer buffer) {
+        int columns = buffer.getInt();
+        int rows = buffer.getInt();
+        int tileW = buffer.getInt();
+        int tileH = buffer.getInt();
+        byte[] tileset = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(tileset);
+        int chunkWidth = buffer.getInt();
+        int chunkHeight = buffer.getInt();
+        int objectCount = buffer.getInt();
+
+        // Table des objets, déjà décalés par la compilation
+        float[] objectX = new float[objectCount];
+        float[] objectY = new float[objectCount];
+        String[] objectTypes = new String[objectCount];
+        String[] movementTypes = new String[objectCount];
+        for (int i = 0; i < objectCount; i++) {
+            objectTypes[i] = MapFormat.OBJECT_TYPES[buffer.get()];
+            objectX[i] = buffer.getFloat();
+            objectY[i] = buffer.getFloat();
+            movementTypes[i] = MapFormat.MOVEMENT_TYPES[buffer.get()];
+        }
 
-                // Ajouter l'ennemi avec la configuration correcte
-                enemies.add(new Enemy(x, convertedY, horizontalTexture, verticalTexture, isVertical));
-            }
+        ChunkSource source = new BinaryChunkSource(buffer, buffer.position(), chunkWidth, chunkHeight, columns, rows);
+        initChunkedMap(source, tileW, tileH, new String(tileset, StandardCharsets.UTF_8));
+        for (int i = 0; i < objectCount; i++) {
+            addObject(objectTypes[i], objectX[i], objectY[i], movementTypes[i]);
+        }
+    }
+
+    /**
+     * Lit une carte compilée. Le fichier est projeté en mémoire lorsque c'est possible, sinon
+     * (fichier dans une archive par exemple) il est lu entièrement.
+     *
+     * @param mapFile Le fichier de la carte compilée.
+     * @return Le contenu du fichier, en gros-boutiste.
+     */
+    private static ByteBuffer readMapBuffer(FileHandle mapFile) {
+        try {
+            return mapFile.map().order(ByteOrder.BIG_ENDIAN); // map() utilise l'ordre natif
+        } catch (GdxRuntimeException e) {
+            return ByteBuffer.wrap(mapFile.readBytes());
+        }
+    }
+
+    /**
+     * Initialise les dimensions de la carte et la grille des murs.
+     *
+     * @param width       La largeur de la carte (en tuiles).
+     * @param height      La hauteur de la carte (en tuiles).
+     * @param tileWidth   La largeur d'une tuile (en pixels).
+     * @param tileHeight  La hauteur d'une tuile (en pixels).
+     * @param tilesetPath Le chemin de l'image du tileset.
+     */
+    private void initMap(int width, int height, int tileWidth, int tileHeight, String tilesetPath) {
+        this.mapWidth = width;
+        this.mapHeight = height;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.tilesetPath = tilesetPath;
+        occupancyGrid = new OccupancyGrid(mapWidth, mapHeight, tileWidth, tileHeight);
+        wallGrid = occupancyGrid;
+        pathFinder = new PathFinder(wallGrid);
+        flowField = new FlowField(wallGrid);
+    }
+
+    /**
+     * Initialise les dimensions d'une carte infinie et sa grille des murs par morceaux.
+     *
+     * @param source      La source des murs des morceaux.
+     * @param tileWidth   La largeur d'une tuile (en pixels).
+     * @param tileHeight  La hauteur d'une tuile (en pixels).
+     * @param tilesetPath Le chemin de l'image du tileset.
+     */
+    private void initChunkedMap(ChunkSource source, int tileWidth, int tileHeight, String tilesetPath) {
+        this.mapWidth = source.getColumns() * source.getChunkWidth();
+        this.mapHeight = source.getRows() * source.getChunkHeight();
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        this.tilesetPath = tilesetPath;
+        chunkedWalls = new ChunkedWallGrid(source, tileWidth, tileHeight);
+        wallGrid = chunkedWalls;
+        pathFinder = new PathFinder(wallGrid);
+        flowField = new FlowField(wallGrid);
+    }
+
+    /**
+     * Enregistre une tuile de la carte dans la grille des murs.
+     *
+     * @param x   La colonne de la tuile.
+     * @param y   La ligne de la tuile, comptée depuis le haut comme dans Tiled.
+     * @param gid L'identifiant global de la tuile dans Tiled ({@code 0} pour une case vide).
+     */
+    private void setTile(int x, int y, int gid) {
+        int tileId = gid - 1;
+
+        if (tileId == WALL_TILE_ID) { // ID des murs
+            occupancyGrid.set(x, mapHeight - y - 1);
+        }
+    }
 
+    /**
+     * Crée l'entité correspondant à un objet de la carte.
+     *
+     * @param type         Le type de l'objet ({@code player}, {@code fruit}, {@code end} ou {@code enemy}).
+     * @param x            La coordonnée X de l'objet dans Tiled.
+     * @param y            La coordonnée Y de l'objet dans Tiled, comptée depuis le haut.
+     * @param movementType Le type de mouvement d'un ennemi ({@code horizontal}, {@code vertical} ou {@code chase}).
+     */
+    private void addObject(String type, float x, float y, String movementType) {
+        float convertedY = (mapHeight * tileHeight) - y - tileHeight;
+
+        if ("player".equals(type)) {
+            player = new Player(x, convertedY,audioManager); // Position ajustée
+        } else if ("fruit".equals(type)) {
+            fruits.add(new Fruit(fruitStore, x, convertedY, AssetPaths.FRUIT_TEXTURE)); // Position ajustée
+        } else if ("end".equals(type)) {
+            endZones.add(new EndZone(x, convertedY, tileWidth, tileHeight));
+        } else if ("enemy".equals(type) && "chase".equals(movementType)) {
+            // Ennemi qui poursuit le joueur
+            enemies.add(new ChasingEnemy(enemyStore, x, convertedY, AssetPaths.CHASING_ENEMY));
+        } else if ("enemy".equals(type)) {
+            // Déterminer si l'ennemi se déplace verticalement
+            boolean isVertical = "vertical".equals(movementType);
+            String horizontalTexture = AssetPaths.HORIZONTAL_ENEMY;
+            String verticalTexture = AssetPaths.VERTICAL_ENEMY;
+
+            // Ajouter l'ennemi avec la configuration correcte
+            enemies.add(new Enemy(enemyStore, x, convertedY, horizontalTexture, verticalTexture, isVertical));
         }
     }
 
     /**
      * Vérifie si une position donnée entre en collision avec un mur sur la carte.
      *
-     * <p>Cette méthode parcourt tous les murs présents dans la carte et vérifie
-     * si les coordonnées spécifiées se chevauchent avec un mur existant.</p>
+     * <p>Une boîte de la taille d'une tuile placée aux coordonnées spécifiées est testée
+     * contre la grille d'occupation : seules les cases qu'elle recouvre sont consultées.</p>
      *
      * @param x La coordonnée X à vérifier.
      * @param y La coordonnée Y à vérifier.
      * @return {@code true} si une collision avec un mur est détectée, sinon {@code false}.
      */
     public boolean isCollision(float x, float y) {
-        for (Tile wall : walls) {
-            if (x < wall.getX() + tileWidth && x + tileWidth > wall.getX() &&
-                y < wall.getY() + tileHeight && y + tileHeight > wall.getY()) {
-                return true; // Collision détectée
-            }
+        return wallGrid.overlaps(x, y, tileWidth, tileHeight);
+    }
+
+    /**
+     * Balaye une entité de la taille d'une tuile le long d'un déplacement et cherche le premier
+     * mur touché.
+     *
+     * <p>Un déplacement plus court que la marge aux murs ({@link #getClearance}) ne parcourt pas
+     * la grille.</p>
+     *
+     * @param x      La coordonnée X de l'entité.
+     * @param y      La coordonnée Y de l'entité.
+     * @param deltaX Le déplacement horizontal.
+     * @param deltaY Le déplacement vertical.
+     * @param sweep  Le balayage où ranger l'instant, la normale et la position du contact.
+     * @return {@code true} si un mur arrête l'entité avant la fin du déplacement, sinon {@code false}.
+     */
+    public boolean sweep(float x, float y, float deltaX, float deltaY, BoxSweep sweep) {
+        float distance = (float) Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+        if (distance < getClearance(x, y)) {
+            return false;
         }
-        return false; // Pas de collision
+        return sweep.cast(wallGrid, x, y, tileWidth, tileHeight, deltaX, deltaY);
+    }
+
+    /**
+     * Retourne la distance dont une entité de la taille d'une tuile peut se déplacer depuis une
+     * position, dans n'importe quelle direction, sans entrer en collision avec un mur.
+     *
+     * @param x La coordonnée X de l'entité.
+     * @param y La coordonnée Y de l'entité.
+     * @return La marge (en pixels), toujours {@code 0} sur une carte infinie.
+     */
+    public float getClearance(float x, float y) {
+        return distanceField != null ? distanceField.getClearance(x, y, tileWidth, tileHeight) : 0;
     }
 
     /**
@@ -225,14 +762,161 @@ public class GameMap {
         return false;
     }
 
+    /**
+     * Rend les textures partagées utilisées par la carte et ses entités.
+     *
+     * <p>Cette méthode doit être appelée lorsque la carte est remplacée ou n'est plus utilisée.</p>
+     */
+    public void dispose() {
+        if (player != null) {
+            player.dispose();
+        }
+        for (Fruit fruit : fruits) {
+            fruit.dispose();
+        }
+        for (Enemy enemy : enemies) {
+            enemy.dispose();
+        }
+        if (chunkedWalls != null) {
+            chunkedWalls.close();
+        }
+        if (wallTexture != null) {
+            wallTexture.dispose();
+            wallTexture = null;
+        }
+        if (tilesetRegion != null) {
+            TextureRegistry.release(tilesetPath);
+            tilesetRegion = null;
+            tiles = null;
+            walls = null;
+        }
+    }
+
     public Player getPlayer() {
         return player;
     }
 
+    /**
+     * Retourne la région de texture des murs.
+     *
+     * <p>La texture du tileset est acquise au premier appel, depuis le thread de rendu :
+     * la simulation seule n'en a pas besoin.</p>
+     *
+     * @return La région de texture des murs.
+     */
+    public TextureRegion getWallRegion() {
+        if (tilesetRegion == null) {
+            tilesetRegion = TextureRegistry.acquire(tilesetPath);
+            tiles = tilesetRegion.split(tileWidth, tileHeight);
+        }
+        return tiles[WALL_TILE_ID / tiles[0].length][WALL_TILE_ID % tiles[0].length];
+    }
+
+    /**
+     * Crée la texture répétable de la tuile des murs, copiée depuis l'image du tileset.
+     *
+     * <p>OpenGL ES 2 ne répète que les textures dont les côtés sont des puissances de deux : pour
+     * d'autres dimensions de tuile, aucune texture n'est créée.</p>
+     *
+     * @return La texture des murs, ou {@code null} si elle ne peut pas être répétée.
+     */
+    private Texture createWallTexture() {
+        if (!MathUtils.isPowerOfTwo(tileWidth) || !MathUtils.isPowerOfTwo(tileHeight)) {
+            return null;
+        }
+        TextureRegion wall = getWallRegion();
+        Pixmap tileset = new Pixmap(Gdx.files.internal(tilesetPath));
+        Pixmap tile = new Pixmap(tileWidth, tileHeight, tileset.getFormat());
+        try {
+            tile.setBlending(Pixmap.Blending.None);
+            tile.drawPixmap(tileset, 0, 0, wall.getRegionX() - tilesetRegion.getRegionX(),
+                wall.getRegionY() - tilesetRegion.getRegionY(), tileWidth, tileHeight);
+            Texture texture = new Texture(tile);
+            texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+            return texture;
+        } finally {
+            tile.dispose();
+            tileset.dispose();
+        }
+    }
+
+    /**
+     * Retourne les tuiles des murs à dessiner.
+     *
+     * <p>Les tuiles sont créées au premier appel, depuis le thread de rendu, une par rectangle de
+     * {@link #getWallRectangles()}. Chaque rectangle est dessiné en un seul sprite, la tuile des
+     * murs étant répétée sur sa surface ; si la tuile ne peut pas être répétée, il est dessiné case
+     * par case. Une carte infinie n'a pas de liste de murs : ses murs sont dessinés depuis
+     * {@link #getChunkedWalls()}.</p>
+     *
+     * @return La liste des tuiles des murs, vide pour une carte infinie.
+     */
     public List<Tile> getWalls() {
+        if (walls == null) {
+            TextureRegion region = getWallRegion();
+
+            walls = new ArrayList<>();
+            if (wallRectangles == null) {
+                return walls;
+            }
+            wallTexture = createWallTexture();
+            TextureRegion repeated = wallTexture != null ? new TextureRegion(wallTexture) : region;
+            for (int i = 0; i < wallRectangles.getCount(); i++) {
+                walls.add(new Tile(wallRectangles.getX(i) * tileWidth, wallRectangles.getY(i) * tileHeight, repeated,
+                    tileWidth, tileHeight, wallRectangles.getWidth(i), wallRectangles.getHeight(i), wallTexture != null));
+            }
+        }
         return walls;
     }
 
+    /**
+     * Retourne les murs de la carte fusionnés en rectangles, calculés au chargement.
+     *
+     * @return Les rectangles des murs, ou {@code null} pour une carte infinie.
+     */
+    public WallRectangles getWallRectangles() {
+        return wallRectangles;
+    }
+
+    /**
+     * Retourne le champ de distance aux murs, calculé au chargement.
+     *
+     * @return Le champ de distance, ou {@code null} pour une carte infinie.
+     */
+    public DistanceField getDistanceField() {
+        return distanceField;
+    }
+
+    public WallGrid getWallGrid() {
+        return wallGrid;
+    }
+
+    public PathFinder getPathFinder() {
+        return pathFinder;
+    }
+
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    /**
+     * Retourne le graphe hiérarchique des chemins de la carte.
+     *
+     * @return Le graphe, ou {@code null} pour une petite carte ou une carte infinie.
+     */
+    public ClusterGraph getClusterGraph() {
+        return clusterGraph;
+    }
+
+    /**
+     * Retourne la grille des murs par morceaux d'une carte infinie.
+     *
+     * @return La grille des murs par morceaux, ou {@code null} pour une carte finie.
+     */
+    public ChunkedWallGrid getChunkedWalls() {
+        return chunkedWalls;
+    }
+
     public int getMapWidth() {
         return mapWidth;
     }
@@ -257,7 +941,79 @@ public class GameMap {
         return enemies;
     }
 
+    /**
+     * Retourne l'état des fruits, rangé par identifiant dans l'ordre de {@link #getFruits()}.
+     *
+     * @return Le stockage des fruits.
+     */
+    public EntityStore getFruitStore() {
+        return fruitStore;
+    }
+
+    /**
+     * Retourne l'état des ennemis, rangé par identifiant dans l'ordre de {@link #getEnemies()}.
+     *
+     * @return Le stockage des ennemis.
+     */
+    public EntityStore getEnemyStore() {
+        return enemyStore;
+    }
+
+    public int getParallelEnemyThreshold() {
+        return parallelEnemyThreshold;
+    }
+
+    /**
+     * Définit le nombre d'ennemis à partir duquel leur mise à jour est effectuée en parallèle.
+     *
+     * @param parallelEnemyThreshold Le seuil, ou {@link Integer#MAX_VALUE} pour toujours mettre à jour en séquentiel.
+     */
+    public void setParallelEnemyThreshold(int parallelEnemyThreshold) {
+        this.parallelEnemyThreshold = parallelEnemyThreshold;
+    }
+
+    public SpatialHash<Fruit> getFruitIndex() {
+        return fruitIndex;
+    }
+
+    public SpatialHash<Enemy> getEnemyIndex() {
+        return enemyIndex;
+    }
+
     public List<EndZone> getEndZones(){
         return endZones;
     }
+
+    /**
+     * Tâche qui met à jour une plage d'ennemis, en la divisant tant qu'elle est trop grande.
+     */
+    private static class EnemyUpdateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final GameMap gameMap;
+        /** Les ennemis à mettre à jour, ou {@code null} pour tous les ennemis. */
+        private final List<Enemy> selected;
+        private final float deltaTime;
+        private final int from;
+        private final int to;
+
+        EnemyUpdateTask(GameMap gameMap, List<Enemy> selected, float deltaTime, int from, int to) {
+            this.gameMap = gameMap;
+            this.selected = selected;
+            this.deltaTime = deltaTime;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ENEMIES_PER_TASK) {
+                gameMap.updateEnemyRange(selected, deltaTime, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new EnemyUpdateTask(gameMap, selected, deltaTime, from, middle),
+                new EnemyUpdateTask(gameMap, selected, deltaTime, middle, to));
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package com.game.model;
+
+/**
+ * La classe {@code GameSnapshot} est une copie de l'état d'une {@link GameMap} nécessaire à l'affichage.
+ *
+ * <p>Elle contient les positions du joueur et des ennemis aux deux derniers pas de simulation,
+ * les vies du joueur et l'état des fruits. Le rendu ne lit que des instantanés : il ne touche
+ * jamais l'état vivant de la carte, qui peut être modifié en parallèle par un thread de simulation.</p>
+ *
+ * <p>Un instantané n'est rempli que par {@link #capture(GameMap, long)} ; il n'est jamais modifié
+ * pendant qu'un lecteur le détient.</p>
+ */
+public class GameSnapshot {
+    /** Numéro du pas de simulation capturé. */
+    private long tick = -1;
+    /** Instant de la capture (en nanosecondes, horloge {@link System#nanoTime()}). */
+    private long captureNanos;
+
+    private float playerX;
+    private float playerY;
+    private float playerPreviousX;
+    private float playerPreviousY;
+    /** Indique si le joueur est visible (il clignote après avoir été touché). */
+    private boolean playerVisible;
+    /** Nombre de vies du joueur. */
+    private int lives;
+    /** Indique si le joueur se trouve dans une zone de fin. */
+    private boolean playerInEndZone;
+
+    private final float[] enemyX;
+    private final float[] enemyY;
+    private final float[] enemyPreviousX;
+    private final float[] enemyPreviousY;
+    /** État de chaque fruit, dans l'ordre de {@link GameMap#getFruits()}. */
+    private final boolean[] fruitEaten;
+
+    /**
+     * Initialise un instantané vide pour une carte donnée.
+     *
+     * @param gameMap La carte dont les entités seront capturées.
+     */
+    public GameSnapshot(GameMap gameMap) {
+        int enemyCount = gameMap.getEnemyStore().size();
+        enemyX = new float[enemyCount];
+        enemyY = new float[enemyCount];
+        enemyPreviousX = new float[enemyCount];
+        enemyPreviousY = new float[enemyCount];
+        fruitEaten = new boolean[gameMap.getFruitStore().size()];
+    }
+
+    /**
+     * Copie l'état courant de la carte dans l'instantané.
+     *
+     * <p>Cette méthode doit être appelée par le thread qui fait avancer la simulation.</p>
+     *
+     * @param gameMap La carte à capturer.
+     * @param tick    Le numéro du pas de simulation capturé.
+     */
+    public void capture(GameMap gameMap, long tick) {
+        this.tick = tick;
+        this.captureNanos = System.nanoTime();
+
+        Player player = gameMap.getPlayer();
+        playerX = player.getX();
+        playerY = player.getY();
+        playerPreviousX = player.getPreviousX();
+        playerPreviousY = player.getPreviousY();
+        playerVisible = player.isVisible();
+        lives = player.getLives();
+        playerInEndZone = gameMap.isPlayerInEndZone(playerX, playerY);
+
+        EntityStore enemies = gameMap.getEnemyStore();
+        enemies.copyPositions(enemyX, enemyY);
+        enemies.copyPreviousPositions(enemyPreviousX, enemyPreviousY);
+
+        EntityStore fruits = gameMap.getFruitStore();
+        for (int i = 0; i < fruitEaten.length; i++) {
+            fruitEaten[i] = fruits.hasFlag(i, EntityStore.REMOVED);
+        }
+    }
+
+    /**
+     * Retourne la coordonnée X du joueur, interpolée entre les deux derniers pas.
+     *
+     * @param alpha La fraction du pas suivant déjà écoulée (entre {@code 0} et {@code 1}).
+     * @return La coordonnée X à afficher.
+     */
+    public float getPlayerX(float alpha) {
+        return playerPreviousX + (playerX - playerPreviousX) * alpha;
+    }
+
+    /**
+     * Retourne la coordonnée Y du joueur, interpolée entre les deux derniers pas.
+     *
+     * @param alpha La fraction du pas suivant déjà écoulée (entre {@code 0} et {@code 1}).
+     * @return La coordonnée Y à afficher.
+     */
+    public float getPlayerY(float alpha) {
+        return playerPreviousY + (playerY - playerPreviousY) * alpha;
+    }
+
+    /**
+     * Retourne la coordonnée X d'un ennemi, interpolée entre les deux derniers pas.
+     *
+     * @param index L'indice de l'ennemi dans {@link GameMap#getEnemies()}.
+     * @param alpha La fraction du pas suivant déjà écoulée (entre {@code 0} et {@code 1}).
+     * @return La coordonnée X à afficher.
+     */
+    public float getEnemyX(int index, float alpha) {
+        return enemyPreviousX[index] + (enemyX[index] - enemyPreviousX[index]) * alpha;
+    }
+
+    /**
+     * Retourne la coordonnée Y d'un ennemi, interpolée entre les deux derniers pas.
+     *
+     * @param index L'indice de l'ennemi dans {@link GameMap#getEnemies()}.
+     * @param alpha La fraction du pas suivant déjà écoulée (entre {@code 0} et {@code 1}).
+     * @return La coordonnée Y à afficher.
+     */
+    public float getEnemyY(int index, float alpha) {
+        return enemyPreviousY[index] + (enemyY[index] - enemyPreviousY[index]) * alpha;
+    }
+
+    /**
+     * Indique si un fruit a été mangé.
+     *
+     * @param index L'indice du fruit dans {@link GameMap#getFruits()}.
+     * @return {@code true} si le fruit a été mangé, sinon {@code false}.
+     */
+    public boolean isFruitEaten(int index) {
+        return fruitEaten[index];
+    }
+
+    /**
+     * Retourne le nombre d'ennemis capturés.
+     *
+     * @return Le nombre d'ennemis, égal à la taille de l'{@link EntityStore} des ennemis.
+     */
+    public int getEnemyCount() {
+        return enemyX.length;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getCaptureNanos() {
+        return captureNanos;
+    }
+
+    public boolean isPlayerVisible() {
+        return playerVisible;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public boolean isPlayerInEndZone() {
+        return playerInEndZone;
+    }
+}
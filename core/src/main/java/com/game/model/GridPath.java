@@ -0,0 +1,49 @@
+package com.game.model;
+
+/**
+ * La classe {@code GridPath} représente un chemin entre deux cases de la grille des murs,
+ * calculé par le {@link PathFinder}.
+ *
+ * <p>Le chemin contient toutes les cases parcourues, de la case de départ à la case d'arrivée
+ * incluses, chacune voisine de la précédente sur l'un des quatre côtés. Un chemin est immuable :
+ * le même chemin, mis en cache, peut être suivi par plusieurs ennemis à la fois.</p>
+ */
+public final class GridPath {
+    /** Résultat d'une recherche sans chemin possible. */
+    public static final GridPath NONE = new GridPath(new int[0], new int[0]);
+
+    /** Colonnes des cases du chemin. */
+    private final int[] cellX;
+    /** Lignes des cases du chemin (depuis le bas de la carte). */
+    private final int[] cellY;
+
+    GridPath(int[] cellX, int[] cellY) {
+        this.cellX = cellX;
+        this.cellY = cellY;
+    }
+
+    /**
+     * Retourne le nombre de cases du chemin, départ et arrivée compris.
+     *
+     * @return Le nombre de cases, ou {@code 0} s'il n'existe aucun chemin.
+     */
+    public int getLength() {
+        return cellX.length;
+    }
+
+    public int getX(int index) {
+        return cellX[index];
+    }
+
+    public int getY(int index) {
+        return cellY[index];
+    }
+
+    public int getGoalX() {
+        return cellX[cellX.length - 1];
+    }
+
+    public int getGoalY() {
+        return cellY[cellY.length - 1];
+    }
+}
@@ -0,0 +1,32 @@
+package com.game.model;
+
+/**
+ * L'interface {@code InputSource} fournit les commandes du joueur à la simulation.
+ *
+ * <p>Les commandes d'un pas de simulation sont regroupées dans un masque de bits
+ * ({@link #UP}, {@link #DOWN}, {@link #LEFT}, {@link #RIGHT}). La simulation ne lit jamais
+ * le clavier directement : une source peut donc être le clavier, un journal rejoué,
+ * un robot ou un test.</p>
+ */
+@FunctionalInterface
+public interface InputSource {
+    /** Commande de déplacement vers le haut. */
+    int UP = 1;
+    /** Commande de déplacement vers le bas. */
+    int DOWN = 1 << 1;
+    /** Commande de déplacement vers la gauche. */
+    int LEFT = 1 << 2;
+    /** Commande de déplacement vers la droite. */
+    int RIGHT = 1 << 3;
+
+    /** Source qui ne presse jamais aucune commande. */
+    InputSource NONE = tick -> 0;
+
+    /**
+     * Retourne les commandes actives pour un pas de simulation.
+     *
+     * @param tick Le numéro du pas de simulation.
+     * @return Le masque des commandes actives.
+     */
+    int poll(long tick);
+}
@@ -1,6 +1,12 @@
 package com.game.model;
+import com.game.assets.GameAssets;
 import com.game.controller.AudioManager;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
 /**
  * La classe {@code Level} représente un niveau du jeu, avec son état de déblocage, de complétion et sa carte associée.
  *
@@ -12,7 +18,9 @@ import com.game.controller.AudioManager;
  *   <li>Une instance de {@link GameMap} représentant la carte du niveau</li>
  * </ul>
  *
- * <p>La classe permet également de recharger la carte via la méthode {@link #load()}.</p>
+ * <p>La carte n'est construite qu'au premier besoin, ou à l'avance sur un thread d'arrière-plan
+ * par {@link #prefetch(ExecutorService)}. Elle reste ensuite en mémoire jusqu'à {@link #unload()} :
+ * {@link #load()} la remet simplement dans son état initial.</p>
  */
 public class Level implements LevelInterface {
     private AudioManager audioManager;
@@ -25,12 +33,17 @@ public class Level implements LevelInterface {
     /** Indique si le niveau est complété. */
     private boolean completed;
 
-    /** Carte associée au niveau. */
+    /** Carte associée au niveau, ou {@code null} tant qu'elle n'a pas été construite. */
     private GameMap gameMap;
 
+    /** Carte en cours de construction en arrière-plan, ou {@code null} sans préchargement. */
+    private Future<GameMap> prefetchedMap;
+
     /**
      * Construit un niveau avec un fichier de carte et un statut initial de déblocage.
      *
+     * <p>La carte n'est pas chargée par le constructeur.</p>
+     *
      * @param mapFile Chemin du fichier de la carte du niveau.
      * @param unlocked Indique si le niveau est débloqué.
      */
@@ -42,19 +55,128 @@ public class Level implements LevelInterface {
         this.unlocked = unlocked;
         this.completed = false;
         this.audioManager = audioManager;
-        this.gameMap = new GameMap(mapFile, audioManager);
     }
 
     /**
      * Charge les ressources nécessaires au niveau.
      *
-     * <p>Cette méthode recharge la {@link GameMap} si nécessaire pour assurer que le niveau
-     * est correctement initialisé avant d'être affiché ou joué.</p>
+     * <p>La carte est construite si elle n'est pas encore en mémoire, en reprenant celle qui a
+     * éventuellement été préchargée, et la musique de fond est lancée. Une carte déjà en mémoire
+     * est remise dans son état initial, sans relire le fichier de la carte, recharger de texture
+     * ni toucher à la musique, qui joue déjà.</p>
      */
     @Override
     public void load() {
-        System.out.println("Chargement des ressources pour le niveau avec la carte : " + mapFile);
-        this.gameMap = new GameMap(mapFile, audioManager);
+        if (gameMap == null) {
+            System.out.println("Chargement des ressources pour le niveau avec la carte : " + mapFile);
+            gameMap = takePrefetchedMap();
+            audioManager.playBackgroundMusic();
+        } else {
+            gameMap.reset();
+        }
+    }
+
+    /**
+     * Construit la carte du niveau en arrière-plan, si elle n'est pas déjà en mémoire.
+     *
+     * <p>La construction d'une carte ne touche ni à OpenGL ni à l'audio : elle peut avoir lieu
+     * sur n'importe quel thread. La carte préchargée est reprise par {@link #load()}.</p>
+     *
+     * <p>Si le préchargement est annulé pendant la construction, la carte est libérée dès qu'elle
+     * est construite, sur le thread de préchargement : elle n'a encore acquis aucune texture.</p>
+     *
+     * @param executor L'exécuteur sur lequel construire la carte.
+     */
+    public void prefetch(ExecutorService executor) {
+        if (gameMap == null && prefetchedMap == null) {
+            FutureTask<GameMap> task = new FutureTask<GameMap>(() -> new GameMap(mapFile, audioManager)) {
+                @Override
+                protected void set(GameMap map) {
+                    super.set(map);
+                    if (isCancelled()) {
+                        map.dispose(); // Préchargement annulé pendant la construction
+                    }
+                }
+            };
+            executor.execute(task);
+            prefetchedMap = task;
+        }
+    }
+
+    /**
+     * Libère la carte du niveau. Elle sera reconstruite au prochain {@link #load()}.
+     *
+     * <p>Cette méthode doit être appelée depuis le thread de rendu, la carte rendant ses textures.</p>
+     */
+    public void unload() {
+        if (prefetchedMap != null) {
+            discard(prefetchedMap);
+            prefetchedMap = null;
+        }
+        if (gameMap != null) {
+            gameMap.dispose();
+            gameMap = null;
+        }
+    }
+
+    /**
+     * Indique si la carte du niveau est en mémoire, construite ou en cours de préchargement.
+     *
+     * @return {@code true} si la carte occupe de la mémoire, sinon {@code false}.
+     */
+    public boolean isResident() {
+        return gameMap != null || prefetchedMap != null;
+    }
+
+    /**
+     * Retourne la carte préchargée, en attendant la fin de sa construction si nécessaire,
+     * ou construit la carte s'il n'y a pas de préchargement.
+     *
+     * <p>Une carte chargée par l'écran de chargement ({@link GameAssets}) est reprise en priorité.</p>
+     *
+     * @return La carte du niveau.
+     */
+    private GameMap takePrefetchedMap() {
+        Future<GameMap> pending = prefetchedMap;
+        prefetchedMap = null;
+
+        GameMap loaded = GameAssets.take(mapFile, GameMap.class);
+        if (loaded != null) {
+            if (pending != null) {
+                discard(pending);
+            }
+            return loaded;
+        }
+
+        if (pending != null && !pending.isCancelled()) {
+            try {
+                return pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                System.out.println("Erreur lors du préchargement de la carte : " + e.getCause());
+            }
+        }
+        return new GameMap(mapFile, audioManager);
+    }
+
+    /**
+     * Abandonne une carte préchargée : la construction est annulée si elle n'est pas terminée,
+     * sinon la carte construite est libérée.
+     *
+     * @param pending Le préchargement à abandonner.
+     */
+    private static void discard(Future<GameMap> pending) {
+        if (pending.cancel(false) || pending.isCancelled()) {
+            return; // Une construction en cours libère elle-même sa carte
+        }
+        try {
+            pending.get().dispose(); // Construction déjà terminée
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.out.println("Erreur lors du préchargement de la carte : " + e.getCause());
+        }
     }
 
     /**
@@ -108,13 +230,16 @@ public class Level implements LevelInterface {
     }
 
     /**
-     * Retourne l'objet {@link GameMap} associé au niveau.
+     * Retourne l'objet {@link GameMap} associé au niveau, en le construisant si nécessaire.
      *
      * <p>La carte contient les entités, les murs et les autres objets du niveau.</p>
      *
      * @return L'instance de {@link GameMap} associée à ce niveau.
      */
     public GameMap getGameMap() {
+        if (gameMap == null) {
+            gameMap = takePrefetchedMap();
+        }
         return gameMap;
     }
 }
@@ -0,0 +1,63 @@
+package com.game.model;
+
+/**
+ * La classe {@code MapFormat} décrit le format binaire des cartes compilées.
+ *
+ * <p>Les cartes Tiled ({@code maps/*.json}) sont compilées à la construction du projet par la
+ * tâche Gradle {@code compileMaps} en fichiers {@code maps/*.mzm}, lus directement par
+ * {@link GameMap} sans analyse de texte. Les valeurs sont écrites en gros-boutiste :</p>
+ * <ul>
+ *   <li>l'en-tête : {@link #MAGIC}, {@link #VERSION} (court), la largeur et la hauteur de la carte
+ *   (en tuiles), la largeur et la hauteur d'une tuile (en pixels), le chemin du tileset (chaîne
+ *   {@code writeUTF}), le nombre de couches de tuiles et le nombre d'objets</li>
+ *   <li>les couches de tuiles : pour chacune, les identifiants globaux des tuiles ligne par ligne,
+ *   dans l'ordre de Tiled (de haut en bas)</li>
+ *   <li>la table des objets : pour chacun, son type (octet, voir {@link #OBJECT_TYPES}), ses
+ *   coordonnées Tiled X et Y (réels) et son type de mouvement (octet, voir {@link #MOVEMENT_TYPES})</li>
+ * </ul>
+ *
+ * <p>Une carte infinie est compilée au format {@link #VERSION_CHUNKED}, lu morceau par morceau
+ * par une {@link ChunkedWallGrid} :</p>
+ * <ul>
+ *   <li>l'en-tête : {@link #MAGIC}, {@link #VERSION_CHUNKED} (court), le nombre de colonnes et de
+ *   lignes de morceaux, la largeur et la hauteur d'une tuile (en pixels), le chemin du tileset,
+ *   la largeur et la hauteur d'un morceau (en tuiles) et le nombre d'objets</li>
+ *   <li>la table des objets, comme ci-dessus, avec des coordonnées décalées pour que le coin
+ *   supérieur gauche de la carte, aligné sur les morceaux, soit l'origine</li>
+ *   <li>les morceaux, ligne par ligne depuis le bas de la carte : pour chacun, les bits de ses
+ *   murs (un {@code long} pour 64 cases), ligne par ligne depuis le bas du morceau. Toutes les
+ *   couches de tuiles sont fusionnées et seules les tuiles de mur sont conservées</li>
+ * </ul>
+ *
+ * <p>Les constantes de cette classe sont reprises par la tâche {@code compileMaps} du fichier
+ * {@code build.gradle} et doivent rester identiques.</p>
+ */
+public final class MapFormat {
+    /** Signature des cartes compilées ("MZMP"). */
+    public static final int MAGIC = 0x4D5A4D50;
+    /** Version du format des cartes compilées. */
+    public static final int VERSION = 1;
+    /** Version du format des cartes infinies compilées, découpées en morceaux. */
+    public static final int VERSION_CHUNKED = 2;
+    /** Extension des cartes compilées. */
+    public static final String EXTENSION = ".mzm";
+
+    /** Types des objets, indexés par le code écrit dans la table des objets. */
+    static final String[] OBJECT_TYPES = {"player", "fruit", "end", "enemy"};
+    /** Types de mouvement des ennemis, indexés par le code écrit dans la table des objets. */
+    static final String[] MOVEMENT_TYPES = {"horizontal", "vertical", "chase"};
+
+    private MapFormat() {
+    }
+
+    /**
+     * Retourne le chemin de la carte compilée correspondant à une carte Tiled.
+     *
+     * @param mapFile Le chemin de la carte Tiled ({@code .json}).
+     * @return Le chemin de la carte compilée ({@code .mzm}).
+     */
+    public static String binaryPath(String mapFile) {
+        int extension = mapFile.lastIndexOf('.');
+        return (extension > mapFile.lastIndexOf('/') ? mapFile.substring(0, extension) : mapFile) + EXTENSION;
+    }
+}
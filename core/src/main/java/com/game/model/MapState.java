@@ -0,0 +1,100 @@
+package com.game.model;
+
+import java.util.List;
+
+/**
+ * La classe {@code MapState} est une copie en mémoire de l'état modifiable d'une {@link GameMap}.
+ *
+ * <p>Elle contient la position, les vies et l'invulnérabilité du joueur, la position et la
+ * vitesse des ennemis, et l'état des fruits. Les murs, les zones de fin et les textures ne
+ * changent pas au cours d'une partie et n'y figurent pas.</p>
+ *
+ * <p>Restaurer un état remet la carte dans la situation capturée sans relire le fichier de la
+ * carte ni recharger de texture : c'est ce qui permet de recommencer un niveau instantanément.</p>
+ */
+public class MapState {
+    private float playerX;
+    private float playerY;
+    private int lives;
+    private float invulnerabilityTime;
+    private boolean playerHit;
+    private float hitTimer;
+
+    /** Position et vitesse de chaque ennemi, par identifiant. */
+    private final float[] enemyX;
+    private final float[] enemyY;
+    private final float[] enemyVelocityX;
+    private final float[] enemyVelocityY;
+    /** État de chaque fruit, dans l'ordre de {@link GameMap#getFruits()}. */
+    private final boolean[] fruitEaten;
+
+    /**
+     * Initialise un état vide pour une carte donnée.
+     *
+     * @param gameMap La carte dont l'état sera capturé.
+     */
+    public MapState(GameMap gameMap) {
+        int enemyCount = gameMap.getEnemyStore().size();
+        enemyX = new float[enemyCount];
+        enemyY = new float[enemyCount];
+        enemyVelocityX = new float[enemyCount];
+        enemyVelocityY = new float[enemyCount];
+        fruitEaten = new boolean[gameMap.getFruitStore().size()];
+    }
+
+    /**
+     * Copie l'état modifiable de la carte.
+     *
+     * @param gameMap La carte à capturer.
+     */
+    public void capture(GameMap gameMap) {
+        Player player = gameMap.getPlayer();
+        playerX = player.getX();
+        playerY = player.getY();
+        lives = player.getLives();
+        invulnerabilityTime = player.getInvulnerabilityTime();
+        playerHit = player.isHit();
+        hitTimer = player.getHitTimer();
+
+        EntityStore enemies = gameMap.getEnemyStore();
+        enemies.copyPositions(enemyX, enemyY);
+        enemies.copyVelocities(enemyVelocityX, enemyVelocityY);
+
+        EntityStore fruits = gameMap.getFruitStore();
+        for (int i = 0; i < fruitEaten.length; i++) {
+            fruitEaten[i] = fruits.hasFlag(i, EntityStore.REMOVED);
+        }
+    }
+
+    /**
+     * Remet la carte dans l'état capturé.
+     *
+     * <p>Les index spatiaux sont mis à jour : un fruit de nouveau présent y est réinséré,
+     * un fruit mangé en est retiré.</p>
+     *
+     * @param gameMap La carte à restaurer, celle dont l'état a été capturé.
+     */
+    public void restore(GameMap gameMap) {
+        gameMap.getPlayer().restore(playerX, playerY, lives, invulnerabilityTime, playerHit, hitTimer);
+
+        List<Enemy> enemies = gameMap.getEnemies();
+        SpatialHash<Enemy> enemyIndex = gameMap.getEnemyIndex();
+        for (int i = 0; i < enemyX.length; i++) {
+            Enemy enemy = enemies.get(i);
+            enemy.restore(enemyX[i], enemyY[i], enemyVelocityX[i], enemyVelocityY[i]);
+            enemyIndex.update(enemy);
+        }
+
+        List<Fruit> fruits = gameMap.getFruits();
+        SpatialHash<Fruit> fruitIndex = gameMap.getFruitIndex();
+        for (int i = 0; i < fruitEaten.length; i++) {
+            Fruit fruit = fruits.get(i);
+            if (fruit.isEaten() && !fruitEaten[i]) {
+                fruitIndex.insert(fruit);
+            } else if (!fruit.isEaten() && fruitEaten[i]) {
+                fruitIndex.remove(fruit);
+            }
+            fruit.setEaten(fruitEaten[i]);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.game.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * La classe {@code MemoryChunkSource} garde en mémoire les murs de tous les morceaux d'une carte
+ * infinie lue depuis un fichier Tiled JSON.
+ *
+ * <p>Seuls les morceaux contenant au moins un mur occupent de la mémoire, à raison d'un bit par
+ * case. Les cartes compilées ({@link MapFormat}) sont lues par une {@link BinaryChunkSource},
+ * qui ne garde rien en mémoire.</p>
+ */
+class MemoryChunkSource implements ChunkSource {
+    private final int chunkWidth;
+    private final int chunkHeight;
+    private final int columns;
+    private final int rows;
+    /** Bits des murs de chaque morceau, par indice de morceau. */
+    private final Map<Integer, long[]> chunks = new HashMap<>();
+
+    MemoryChunkSource(int chunkWidth, int chunkHeight, int columns, int rows) {
+        this.chunkWidth = chunkWidth;
+        this.chunkHeight = chunkHeight;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Marque une case comme occupée par un mur. Appelée uniquement pendant le chargement.
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case (depuis le bas de la carte).
+     */
+    void setWall(int cellX, int cellY) {
+        int chunkX = cellX / chunkWidth;
+        int chunkY = cellY / chunkHeight;
+        long[] bits = chunks.computeIfAbsent(chunkY * columns + chunkX,
+            key -> new long[(chunkWidth * chunkHeight + 63) >>> 6]);
+        int index = (cellY - chunkY * chunkHeight) * chunkWidth + (cellX - chunkX * chunkWidth);
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    @Override
+    public long[] readChunk(int chunkX, int chunkY) {
+        return chunks.get(chunkY * columns + chunkX);
+    }
+
+    @Override
+    public int getChunkWidth() {
+        return chunkWidth;
+    }
+
+    @Override
+    public int getChunkHeight() {
+        return chunkHeight;
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+}
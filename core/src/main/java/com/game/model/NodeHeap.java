@@ -0,0 +1,86 @@
+package com.game.model;
+
+import java.util.Arrays;
+
+/**
+ * Tas binaire d'indices de nœuds triés par priorité croissante, utilisé par les recherches A*.
+ *
+ * <p>Les priorités sont des entiers longs : une recherche y range son coût estimé et de quoi
+ * départager les égalités, ce qui rend l'ordre de sortie déterministe. Un nœud peut être ajouté
+ * plusieurs fois ; c'est à la recherche d'ignorer les entrées périmées.</p>
+ */
+final class NodeHeap {
+    private int[] nodes;
+    private long[] priorities;
+    private int size;
+
+    NodeHeap(int capacity) {
+        nodes = new int[Math.max(1, capacity)];
+        priorities = new long[nodes.length];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Ajoute un nœud au tas.
+     */
+    void push(int node, long priority) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            priorities = Arrays.copyOf(priorities, size * 2);
+        }
+        int index = size++;
+        while (index > 0) {
+            int up = (index - 1) >>> 1;
+            if (priorities[up] <= priority) {
+                break;
+            }
+            nodes[index] = nodes[up];
+            priorities[index] = priorities[up];
+            index = up;
+        }
+        nodes[index] = node;
+        priorities[index] = priority;
+    }
+
+    /**
+     * Retire et retourne le nœud de plus faible priorité.
+     */
+    int pop() {
+        int top = nodes[0];
+        int node = nodes[--size];
+        long priority = priorities[size];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && priorities[child + 1] < priorities[child]) {
+                child++;
+            }
+            if (priorities[child] >= priority) {
+                break;
+            }
+            nodes[index] = nodes[child];
+            priorities[index] = priorities[child];
+            index = child;
+        }
+        nodes[index] = node;
+        priorities[index] = priority;
+        return top;
+    }
+
+    /**
+     * Retourne la mémoire occupée par le tas (en octets, approximative).
+     */
+    long getMemoryBytes() {
+        return (long) nodes.length * (Integer.BYTES + Long.BYTES);
+    }
+}
@@ -0,0 +1,132 @@
+package com.game.model;
+
+/**
+ * La classe {@code OccupancyGrid} représente la grille d'occupation des murs de la carte.
+ *
+ * <p>Chaque case de la carte est stockée sur un seul bit dans un tableau de {@code long}.
+ * Les cases sont indexées dans le repère du monde : la ligne {@code 0} correspond au bas
+ * de la carte, comme les coordonnées Y des entités.</p>
+ *
+ * <p>Une requête de collision ne consulte que les une à quatre cases recouvertes par la boîte
+ * testée, son coût ne dépend donc pas du nombre de murs de la carte.</p>
+ *
+ * <p>Toute la grille est gardée en mémoire : elle convient aux cartes finies. Les cartes
+ * infinies utilisent une {@link ChunkedWallGrid}.</p>
+ */
+public class OccupancyGrid implements WallGrid {
+    /** Largeur de la grille (en nombre de cases). */
+    private final int width;
+    /** Hauteur de la grille (en nombre de cases). */
+    private final int height;
+    /** Largeur d'une case (en pixels). */
+    private final int cellWidth;
+    /** Hauteur d'une case (en pixels). */
+    private final int cellHeight;
+    /** Bits d'occupation, une case par bit, ligne par ligne. */
+    private final long[] bits;
+    /** Version de la grille, incrémentée à chaque mur ajouté. */
+    private int version;
+
+    /**
+     * Initialise une grille vide.
+     *
+     * @param width      La largeur de la grille (en nombre de cases).
+     * @param height     La hauteur de la grille (en nombre de cases).
+     * @param cellWidth  La largeur d'une case (en pixels).
+     * @param cellHeight La hauteur d'une case (en pixels).
+     */
+    public OccupancyGrid(int width, int height, int cellWidth, int cellHeight) {
+        if (width < 0 || height < 0 || cellWidth <= 0 || cellHeight <= 0) {
+            throw new IllegalArgumentException("Dimensions de grille invalides : " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.bits = new long[(int) (((long) width * height + 63) >>> 6)];
+    }
+
+    /**
+     * Marque une case comme occupée par un mur.
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case (depuis le bas de la carte).
+     */
+    public void set(int cellX, int cellY) {
+        int index = cellY * width + cellX;
+        bits[index >>> 6] |= 1L << index;
+        version++;
+    }
+
+    /**
+     * Vérifie si une case contient un mur.
+     *
+     * <p>Les cases situées hors de la grille sont considérées comme libres.</p>
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case (depuis le bas de la carte).
+     * @return {@code true} si la case contient un mur, sinon {@code false}.
+     */
+    @Override
+    public boolean isWall(int cellX, int cellY) {
+        if (cellX < 0 || cellY < 0 || cellX >= width || cellY >= height) {
+            return false;
+        }
+        int index = cellY * width + cellX;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Vérifie si une boîte alignée sur les axes chevauche au moins un mur.
+     *
+     * <p>Les bords de la boîte sont exclusifs : une boîte qui touche un mur sans le
+     * recouvrir n'est pas en collision.</p>
+     *
+     * @param x      La coordonnée X du coin inférieur gauche de la boîte.
+     * @param y      La coordonnée Y du coin inférieur gauche de la boîte.
+     * @param width  La largeur de la boîte.
+     * @param height La hauteur de la boîte.
+     * @return {@code true} si la boîte chevauche un mur, sinon {@code false}.
+     */
+    @Override
+    public boolean overlaps(float x, float y, float width, float height) {
+        int minX = (int) Math.floor(x / cellWidth);
+        int minY = (int) Math.floor(y / cellHeight);
+        int maxX = (int) Math.ceil((x + width) / cellWidth) - 1;
+        int maxY = (int) Math.ceil((y + height) / cellHeight) - 1;
+
+        for (int cellY = minY; cellY <= maxY; cellY++) {
+            for (int cellX = minX; cellX <= maxX; cellX++) {
+                if (isWall(cellX, cellY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    @Override
+    public int getCellHeight() {
+        return cellHeight;
+    }
+}
@@ -0,0 +1,410 @@
+package com.game.model;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * La classe {@code PathFinder} calcule des chemins sur la grille des murs avec l'algorithme A*.
+ *
+ * <p>Les chemins calculés sont gardés dans un cache LRU, indexé par les cases de départ et
+ * d'arrivée : plusieurs ennemis qui demandent le même chemin ne le calculent qu'une fois.</p>
+ *
+ * <p>Les cases inconnues de la grille ({@link WallGrid#isKnown}) ne sont jamais traversées. Un
+ * résultat qui en a rencontré une n'est pas mis en cache : il est rendu une seule fois, au premier
+ * qui le redemande, et sera recalculé quand ces cases seront connues.</p>
+ *
+ * <p>Une demande absente du cache n'est pas calculée immédiatement : elle est mise en file, puis
+ * traitée par {@link #update()}, appelée une fois par pas de simulation. Chaque pas ne développe
+ * pas plus de {@link #getExpansionsPerTick()} cases ; une recherche qui dépasse ce budget reprend
+ * au pas suivant là où elle s'était arrêtée. Le coût d'un pas reste ainsi borné quel que soit le
+ * nombre d'ennemis qui demandent un chemin.</p>
+ *
+ * <p>Une recherche ne sort pas d'un carré de {@link #SEARCH_RADIUS} cases autour de la case de
+ * départ : la mémoire de recherche est allouée une fois et réutilisée, quelle que soit la taille
+ * de la carte. Une arrivée plus éloignée est cherchée dans le {@link ClusterGraph} de la carte,
+ * s'il y en a un ; son coût est décompté du budget du pas.</p>
+ *
+ * <p>Le service n'est pas thread-safe : il est utilisé par la simulation, séquentiellement et dans
+ * l'ordre des ennemis, ce qui garde la simulation déterministe.</p>
+ */
+public class PathFinder {
+    /** Nombre de cases développées par pas de simulation, par défaut. */
+    public static final int DEFAULT_EXPANSIONS_PER_TICK = 2048;
+    /** Nombre de chemins gardés en cache, par défaut. */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+    /** Distance maximale (en cases, sur chaque axe) entre une case explorée et la case de départ. */
+    public static final int SEARCH_RADIUS = 64;
+
+    /** Côté du carré de recherche (en cases). */
+    private static final int WINDOW = 2 * SEARCH_RADIUS + 1;
+    /** Décalages des quatre voisins d'une case : droite, gauche, haut, bas. */
+    private static final int[] NEIGHBOUR_X = {1, -1, 0, 0};
+    private static final int[] NEIGHBOUR_Y = {0, 0, 1, -1};
+
+    /** Grille des murs sur laquelle les chemins sont calculés. */
+    private final WallGrid grid;
+    /** Chemins calculés, du moins récemment utilisé au plus récemment utilisé. */
+    private final Map<Key, GridPath> cache;
+    /** Demandes en attente de calcul, dans l'ordre d'arrivée. */
+    private final Queue<Key> queue = new ArrayDeque<>();
+    /** Demandes en file ou en cours de calcul. */
+    private final Set<Key> queued = new HashSet<>();
+    /** Nombre maximal de demandes en file, égal à la taille du cache. */
+    private final int maxPending;
+    private int expansionsPerTick = DEFAULT_EXPANSIONS_PER_TICK;
+    /** Graphe des groupes de cases, pour les arrivées hors du carré de recherche, ou {@code null}. */
+    private ClusterGraph clusterGraph;
+    /** Chemins calculés à travers des cases inconnues, rendus une seule fois puis oubliés. */
+    private final Map<Key, GridPath> uncached;
+    /** Dépassement du budget, retenu sur les pas suivants. */
+    private int debt;
+
+    // ----- État de la recherche en cours -----
+
+    /** Demande en cours de calcul, ou {@code null}. */
+    private Key current;
+    /** Coin inférieur gauche du carré de recherche. */
+    private int originX;
+    private int originY;
+    /** Numéro de la recherche : une case n'est valide que si sa marque lui est égale. */
+    private int generation;
+    /** Marque de la recherche ayant atteint chaque case du carré. */
+    private int[] visited;
+    /** Marque de la recherche ayant développé chaque case du carré. */
+    private int[] closed;
+    /** Coût depuis le départ de chaque case atteinte. */
+    private int[] cost;
+    /** Case précédente de chaque case atteinte, dans le chemin le moins coûteux. */
+    private int[] parent;
+    /** Cases à développer, triées par coût estimé. */
+    private NodeHeap heap;
+    /** Indique si la recherche en cours a rencontré une case inconnue. */
+    private boolean touchedUnknown;
+
+    /**
+     * Initialise le service sur une grille des murs, avec le budget et la taille de cache par défaut.
+     *
+     * @param grid La grille des murs.
+     */
+    public PathFinder(WallGrid grid) {
+        this(grid, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Initialise le service sur une grille des murs.
+     *
+     * @param grid      La grille des murs.
+     * @param cacheSize Le nombre de chemins gardés en cache.
+     */
+    public PathFinder(WallGrid grid, int cacheSize) {
+        if (grid == null) {
+            throw new IllegalArgumentException("WallGrid ne peut pas être null");
+        }
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Taille de cache invalide : " + cacheSize);
+        }
+        this.grid = grid;
+        this.maxPending = cacheSize;
+        this.cache = new LinkedHashMap<Key, GridPath>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, GridPath> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.uncached = new LinkedHashMap<Key, GridPath>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, GridPath> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Demande le chemin entre deux cases.
+     *
+     * @param startX La colonne de la case de départ.
+     * @param startY La ligne de la case de départ.
+     * @param goalX  La colonne de la case d'arrivée.
+     * @param goalY  La ligne de la case d'arrivée.
+     * @return Le chemin s'il est calculé ({@link GridPath#NONE} s'il n'en existe pas), ou
+     *         {@code null} si son calcul a été mis en file : il sera disponible à un prochain pas.
+     */
+    public GridPath request(int startX, int startY, int goalX, int goalY) {
+        Key key = new Key(startX, startY, goalX, goalY);
+        GridPath path = cache.get(key);
+        if (path == null) {
+            path = uncached.remove(key);
+        }
+        if (path == null && queued.add(key)) {
+            queue.add(key);
+            if (queue.size() > maxPending) {
+                // Les demandes les plus anciennes sont sans doute périmées : le joueur a bougé depuis.
+                // Un ennemi qui en a encore besoin la redemandera.
+                queued.remove(queue.poll());
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Avance les recherches en file, dans la limite du budget d'un pas.
+     *
+     * <p>Une recherche dans le {@link ClusterGraph} ne peut pas être interrompue : si elle dépasse
+     * le budget, le dépassement est retenu sur le budget des pas suivants.</p>
+     */
+    public void update() {
+        int budget = expansionsPerTick - debt;
+        debt = 0;
+        while (budget > 0) {
+            if (current == null) {
+                current = queue.poll();
+                if (current == null) {
+                    return;
+                }
+                if (clusterGraph != null && !isNear(current)) {
+                    touchedUnknown = false;
+                    finish(current, clusterGraph.findPath(current.startX, current.startY, current.goalX, current.goalY));
+                    budget -= clusterGraph.getLastExpansions();
+                    continue;
+                }
+                startSearch(current);
+            }
+            budget = search(budget);
+        }
+        debt = -budget;
+    }
+
+    /**
+     * Oublie les chemins en cache et les recherches en attente.
+     */
+    public void clear() {
+        cache.clear();
+        uncached.clear();
+        queue.clear();
+        queued.clear();
+        current = null;
+        debt = 0;
+    }
+
+    /**
+     * Prépare la recherche d'une demande.
+     */
+    private void startSearch(Key key) {
+        if (visited == null) {
+            visited = new int[WINDOW * WINDOW];
+            closed = new int[WINDOW * WINDOW];
+            cost = new int[WINDOW * WINDOW];
+            parent = new int[WINDOW * WINDOW];
+            heap = new NodeHeap(WINDOW * 4);
+        }
+        if (++generation == 0) {
+            // Les marques ont fait le tour : les effacer pour ne pas confondre deux recherches
+            Arrays.fill(visited, 0);
+            Arrays.fill(closed, 0);
+            generation = 1;
+        }
+        originX = key.startX - SEARCH_RADIUS;
+        originY = key.startY - SEARCH_RADIUS;
+        heap.clear();
+        touchedUnknown = false;
+
+        if (!inWindow(key.goalX, key.goalY)) {
+            return; // Le tas vide termine la recherche sans chemin
+        }
+        if (!grid.isKnown(key.startX, key.startY) || !grid.isKnown(key.goalX, key.goalY)) {
+            touchedUnknown = true;
+            return;
+        }
+        if (grid.isWall(key.startX, key.startY) || grid.isWall(key.goalX, key.goalY)) {
+            return;
+        }
+        int start = local(key.startX, key.startY);
+        visited[start] = generation;
+        cost[start] = 0;
+        parent[start] = -1;
+        push(start, 0, heuristic(key.startX, key.startY, key));
+    }
+
+    /**
+     * Poursuit la recherche en cours.
+     *
+     * @param budget Le nombre de cases qui peuvent encore être développées pendant ce pas.
+     * @return Le budget restant.
+     */
+    private int search(int budget) {
+        Key key = current;
+        while (!heap.isEmpty()) {
+            if (budget == 0) {
+                return 0; // Reprise au pas suivant
+            }
+            int cell = heap.pop();
+            if (closed[cell] == generation) {
+                continue; // Entrée périmée du tas
+            }
+            closed[cell] = generation;
+            budget--;
+
+            int x = originX + cell % WINDOW;
+            int y = originY + cell / WINDOW;
+            if (x == key.goalX && y == key.goalY) {
+                finish(key, buildPath(cell));
+                return budget;
+            }
+            for (int i = 0; i < NEIGHBOUR_X.length; i++) {
+                int nx = x + NEIGHBOUR_X[i];
+                int ny = y + NEIGHBOUR_Y[i];
+                if (!inWindow(nx, ny)) {
+                    continue;
+                }
+                if (!grid.isKnown(nx, ny)) {
+                    touchedUnknown = true; // Un morceau pas encore chargé : peut-être un passage
+                    continue;
+                }
+                if (grid.isWall(nx, ny)) {
+                    continue;
+                }
+                int neighbour = local(nx, ny);
+                int newCost = cost[cell] + 1;
+                if (visited[neighbour] != generation || newCost < cost[neighbour]) {
+                    visited[neighbour] = generation;
+                    cost[neighbour] = newCost;
+                    parent[neighbour] = cell;
+                    push(neighbour, newCost, heuristic(nx, ny, key));
+                }
+            }
+        }
+        finish(key, GridPath.NONE);
+        return budget;
+    }
+
+    /**
+     * Termine la recherche en cours et met son résultat en cache, s'il ne dépend d'aucune case
+     * inconnue.
+     */
+    private void finish(Key key, GridPath path) {
+        if (touchedUnknown) {
+            uncached.put(key, path);
+        } else {
+            cache.put(key, path);
+        }
+        queued.remove(key);
+        current = null;
+    }
+
+    /**
+     * Reconstruit le chemin de la case de départ jusqu'à une case atteinte.
+     */
+    private GridPath buildPath(int goal) {
+        int length = 0;
+        for (int cell = goal; cell != -1; cell = parent[cell]) {
+            length++;
+        }
+        int[] cellX = new int[length];
+        int[] cellY = new int[length];
+        int index = length;
+        for (int cell = goal; cell != -1; cell = parent[cell]) {
+            index--;
+            cellX[index] = originX + cell % WINDOW;
+            cellY[index] = originY + cell / WINDOW;
+        }
+        return new GridPath(cellX, cellY);
+    }
+
+    /**
+     * Vérifie si l'arrivée d'une demande est dans le carré de recherche autour du départ.
+     */
+    private static boolean isNear(Key key) {
+        return Math.abs(key.goalX - key.startX) <= SEARCH_RADIUS && Math.abs(key.goalY - key.startY) <= SEARCH_RADIUS;
+    }
+
+    private boolean inWindow(int x, int y) {
+        return x >= originX && y >= originY && x < originX + WINDOW && y < originY + WINDOW;
+    }
+
+    private int local(int x, int y) {
+        return (y - originY) * WINDOW + (x - originX);
+    }
+
+    private static int heuristic(int x, int y, Key key) {
+        return Math.abs(key.goalX - x) + Math.abs(key.goalY - y);
+    }
+
+    /**
+     * Ajoute une case aux cases à développer. Les cases sont triées par coût estimé, puis par coût
+     * depuis le départ décroissant (les cases les plus avancées d'abord), puis par indice pour un
+     * ordre déterministe.
+     */
+    private void push(int cell, int cost, int heuristic) {
+        heap.push(cell, ((long) (cost + heuristic) << 42) | ((long) (WINDOW * WINDOW - cost) << 21) | cell);
+    }
+
+    public int getExpansionsPerTick() {
+        return expansionsPerTick;
+    }
+
+    /**
+     * Définit le nombre maximal de cases développées par pas de simulation.
+     *
+     * @param expansionsPerTick Le budget d'un pas, strictement positif.
+     */
+    public void setExpansionsPerTick(int expansionsPerTick) {
+        if (expansionsPerTick <= 0) {
+            throw new IllegalArgumentException("Budget de recherche invalide : " + expansionsPerTick);
+        }
+        this.expansionsPerTick = expansionsPerTick;
+    }
+
+    /**
+     * Définit le graphe utilisé pour les arrivées hors du carré de recherche.
+     *
+     * @param clusterGraph Le graphe des groupes de cases de la carte, ou {@code null}.
+     */
+    public void setClusterGraph(ClusterGraph clusterGraph) {
+        this.clusterGraph = clusterGraph;
+    }
+
+    /**
+     * Retourne le nombre de demandes en attente de calcul, y compris la recherche en cours.
+     *
+     * @return Le nombre de demandes en attente.
+     */
+    public int getPendingCount() {
+        return queued.size();
+    }
+
+    /**
+     * Cases de départ et d'arrivée d'une demande, clé du cache.
+     */
+    private static final class Key {
+        final int startX;
+        final int startY;
+        final int goalX;
+        final int goalY;
+
+        Key(int startX, int startY, int goalX, int goalY) {
+            this.startX = startX;
+            this.startY = startY;
+            this.goalX = goalX;
+            this.goalY = goalY;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return startX == key.startX && startY == key.startY && goalX == key.goalX && goalY == key.goalY;
+        }
+
+        @Override
+        public int hashCode() {
+            return ((startX * 31 + startY) * 31 + goalX) * 31 + goalY;
+        }
+    }
+}
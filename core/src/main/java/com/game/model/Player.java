@@ -1,8 +1,7 @@
 package com.game.model;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import java.util.ArrayList;
 import java.util.List;
 import com.game.assets.AssetPaths;
 import com.game.controller.AudioManager;
@@ -35,7 +34,19 @@ public class Player extends Entity implements Movable {
     private float hitTimer;
     /** Durée de chaque clignotement pendant l'invulnérabilité (en secondes). */
     private static final float HIT_EFFECT_DURATION = 0.2f;
-    private AudioManager audioManager;    /**
+    /** Vitesse de déplacement du joueur (en pixels par seconde). */
+    private static final float SPEED = 120f;
+    private AudioManager audioManager;
+    /** Fruits candidats retournés par l'index spatial, réutilisés d'une frame à l'autre. */
+    private final List<Fruit> nearbyFruits = new ArrayList<>();
+    /** Ennemis candidats retournés par l'index spatial, réutilisés d'une frame à l'autre. */
+    private final List<Enemy> nearbyEnemies = new ArrayList<>();
+    /** Balayage des déplacements contre les murs, réutilisé d'une frame à l'autre. */
+    private final BoxSweep sweep = new BoxSweep();
+    /** Nombre maximal de contacts traités pendant un déplacement (un par axe). */
+    private static final int MAX_CONTACTS = 2;
+
+    /**
      * Initialise un joueur avec une position initiale spécifiée.
      *
      * @param startX La position initiale horizontale du joueur.
@@ -69,31 +80,51 @@ public class Player extends Entity implements Movable {
     }
 
     /**
-     * Gère les entrées clavier pour déplacer le joueur.
+     * Déplace le joueur selon les commandes du pas de simulation.
      *
-     * @param gameMap La carte actuelle du jeu pour vérifier les collisions.
+     * <p>Le déplacement est balayé contre les murs : le joueur avance jusqu'au premier mur touché,
+     * puis glisse le long de ce mur avec le reste du déplacement. Il ne traverse jamais un mur,
+     * quelle que soit la durée du pas.</p>
+     *
+     * @param gameMap   La carte actuelle du jeu pour vérifier les collisions.
+     * @param commands  Le masque des commandes actives (voir {@link InputSource}).
+     * @param deltaTime La durée du pas de simulation (en secondes).
      */
-    public void handleInput(GameMap gameMap) {
+    public void handleInput(GameMap gameMap, int commands, float deltaTime) {
         float deltaX = 0, deltaY = 0;
+        float step = SPEED * deltaTime;
 
-        if (Gdx.input.isKeyPressed(Input.Keys.UP)) deltaY = 2;
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN)) deltaY = -2;
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)) deltaX = -2;
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)) deltaX = 2;
+        if ((commands & InputSource.UP) != 0) deltaY = step;
+        if ((commands & InputSource.DOWN) != 0) deltaY = -step;
+        if ((commands & InputSource.LEFT) != 0) deltaX = -step;
+        if ((commands & InputSource.RIGHT) != 0) deltaX = step;
 
-        if (!gameMap.isCollision(x + deltaX, y + deltaY)) {
-            move(deltaX, deltaY);
+        for (int contact = 0; contact < MAX_CONTACTS && (deltaX != 0 || deltaY != 0); contact++) {
+            if (!gameMap.sweep(x, y, deltaX, deltaY, sweep)) {
+                move(deltaX, deltaY);
+                return;
+            }
+            // Avancer jusqu'au mur, puis garder la part du déplacement parallèle au mur
+            float remaining = 1 - sweep.getTime();
+            x = sweep.getContactX();
+            y = sweep.getContactY();
+            deltaX = sweep.getNormalX() != 0 ? 0 : deltaX * remaining;
+            deltaY = sweep.getNormalY() != 0 ? 0 : deltaY * remaining;
         }
     }
 
     /**
      * Gère les collisions avec les fruits et met à jour les vies du joueur.
      *
-     * @param fruits La liste des fruits présents sur la carte.
+     * <p>Seuls les fruits des cases voisines du joueur sont testés. Un fruit mangé est
+     * retiré de l'index.</p>
+     *
+     * @param fruits L'index spatial des fruits présents sur la carte.
      */
-    public void handleFruitCollision(List<Fruit> fruits) {
-        for (Fruit fruit : fruits) {
+    public void handleFruitCollision(SpatialHash<Fruit> fruits) {
+        for (Fruit fruit : fruits.query(x, y, width, height, nearbyFruits)) {
             if (fruit.checkCollision(x, y, width, height)) {
+                fruits.remove(fruit);
                 lives++;
                 System.out.println("Fruit mangé ! Vies restantes : " + lives);
                 audioManager.playFruitCollectedSound(); // Son de collecte
@@ -104,16 +135,18 @@ public class Player extends Entity implements Movable {
     /**
      * Gère les collisions avec les ennemis et met à jour les vies du joueur.
      *
-     * @param enemies La liste des ennemis présents sur la carte.
+     * <p>Seuls les ennemis des cases voisines du joueur sont testés.</p>
+     *
+     * @param enemies   L'index spatial des ennemis présents sur la carte.
+     * @param deltaTime La durée du pas de simulation (en secondes).
      */
-
-    public void handleEnemyCollision(List<Enemy> enemies) {
+    public void handleEnemyCollision(SpatialHash<Enemy> enemies, float deltaTime) {
         if (invulnerabilityTime > 0) {
-            invulnerabilityTime -= Gdx.graphics.getDeltaTime();
+            invulnerabilityTime -= deltaTime;
             return;
         }
 
-        for (Enemy enemy : enemies) {
+        for (Enemy enemy : enemies.query(x, y, width, height, nearbyEnemies)) {
             if (enemy.checkCollision(x, y, width, height)) {
                 if (enemy.isHorizontal()) {
                     lives -= 2;
@@ -131,7 +164,7 @@ public class Player extends Entity implements Movable {
     /**
      * Met à jour l'état du joueur, notamment la gestion de l'invulnérabilité et du clignotement.
      *
-     * @param deltaTime Temps écoulé depuis la dernière frame.
+     * @param deltaTime La durée du pas de simulation (en secondes).
      */
     public void update(float deltaTime) {
         if (invulnerabilityTime > 0) {
@@ -147,21 +180,63 @@ public class Player extends Entity implements Movable {
     }
 
     /**
-     * Affiche le joueur à l'écran avec un effet de clignotement si le joueur est en état "touché".
+     * Indique si le joueur doit être affiché, compte tenu de l'effet de clignotement
+     * lorsqu'il est en état "touché".
+     *
+     * @return {@code true} si le joueur est visible, sinon {@code false}.
+     */
+    public boolean isVisible() {
+        return !isHit || (Math.floor(hitTimer * 10) % 2 == 0);
+    }
+
+    /**
+     * Affiche le joueur à une position donnée, issue d'un instantané de la simulation.
+     *
+     * <p>L'appelant vérifie au préalable que le joueur est visible.</p>
      *
      * @param batch   Le {@link SpriteBatch} utilisé pour dessiner le joueur.
      * @param offsetX Décalage horizontal pour le rendu.
      * @param offsetY Décalage vertical pour le rendu.
      * @param scale   Facteur d'échelle appliqué au rendu.
+     * @param drawX   La coordonnée X à laquelle dessiner le joueur.
+     * @param drawY   La coordonnée Y à laquelle dessiner le joueur.
      */
-    public void render(SpriteBatch batch, float offsetX, float offsetY, float scale) {
-        if (!isHit || (Math.floor(hitTimer * 10) % 2 == 0)) {
-            batch.draw(texture, offsetX + x * scale, offsetY + y * scale, width * scale, height * scale);
-        }
+    public void render(SpriteBatch batch, float offsetX, float offsetY, float scale, float drawX, float drawY) {
+        batch.draw(getRegion(), offsetX + drawX * scale, offsetY + drawY * scale, width * scale, height * scale);
+    }
+
+    /**
+     * Remet le joueur dans un état capturé par un {@link MapState}.
+     *
+     * @param x                   La coordonnée X du joueur.
+     * @param y                   La coordonnée Y du joueur.
+     * @param lives               Le nombre de vies.
+     * @param invulnerabilityTime Le temps d'invulnérabilité restant (en secondes).
+     * @param isHit               L'état "touché" du joueur.
+     * @param hitTimer            Le timer du clignotement (en secondes).
+     */
+    void restore(float x, float y, int lives, float invulnerabilityTime, boolean isHit, float hitTimer) {
+        setPosition(x, y);
+        this.lives = lives;
+        this.invulnerabilityTime = invulnerabilityTime;
+        this.isHit = isHit;
+        this.hitTimer = hitTimer;
     }
 
     public int getLives() {
         return lives;
     }
 
+    float getInvulnerabilityTime() {
+        return invulnerabilityTime;
+    }
+
+    boolean isHit() {
+        return isHit;
+    }
+
+    float getHitTimer() {
+        return hitTimer;
+    }
+
 }
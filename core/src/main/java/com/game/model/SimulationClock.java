@@ -0,0 +1,54 @@
+package com.game.model;
+
+/**
+ * La classe {@code SimulationClock} est l'horloge explicite de la simulation.
+ *
+ * <p>Elle compte les pas de simulation et fournit leur durée fixe. La simulation ne lit
+ * jamais le temps réel : à horloge et entrées identiques, deux exécutions produisent
+ * exactement le même résultat, avec ou sans fenêtre.</p>
+ */
+public class SimulationClock {
+    /** Nombre de pas de simulation par seconde. */
+    private final int ticksPerSecond;
+    /** Durée d'un pas de simulation (en secondes). */
+    private final float stepSeconds;
+    /** Numéro du prochain pas de simulation. */
+    private long tick;
+
+    /**
+     * Initialise une horloge au pas zéro.
+     *
+     * @param ticksPerSecond Le nombre de pas de simulation par seconde.
+     */
+    public SimulationClock(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("La fréquence de simulation doit être positive : " + ticksPerSecond);
+        }
+        this.ticksPerSecond = ticksPerSecond;
+        this.stepSeconds = 1f / ticksPerSecond;
+    }
+
+    /**
+     * Passe au pas de simulation suivant.
+     */
+    public void advance() {
+        tick++;
+    }
+
+    /**
+     * Retourne le numéro du pas de simulation courant.
+     *
+     * @return Le nombre de pas déjà simulés.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    public float getStepSeconds() {
+        return stepSeconds;
+    }
+}
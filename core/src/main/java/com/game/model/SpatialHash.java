@@ -0,0 +1,164 @@
+package com.game.model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * La classe {@code SpatialHash} est un index spatial uniforme qui range les entités par case.
+ *
+ * <p>Chaque entité est rangée dans la case qui contient son coin inférieur gauche. Une requête
+ * ne parcourt que les cases voisines de la boîte recherchée, au lieu de toutes les entités
+ * de la carte.</p>
+ *
+ * <p>Les entités indexées ne doivent pas être plus grandes qu'une case : c'est ce qui garantit
+ * qu'une entité chevauchant la boîte recherchée se trouve bien dans une case voisine.</p>
+ *
+ * @param <T> Le type d'entité indexé.
+ */
+public class SpatialHash<T extends Entity> {
+    /** Nombre de colonnes de cases. */
+    private final int columns;
+    /** Nombre de lignes de cases. */
+    private final int rows;
+    /** Largeur d'une case (en pixels). */
+    private final float cellWidth;
+    /** Hauteur d'une case (en pixels). */
+    private final float cellHeight;
+    /** Entités rangées par case, créées à la demande. */
+    private final List<List<T>> buckets;
+    /** Case actuelle de chaque entité indexée. */
+    private final Map<T, Integer> cellOf;
+
+    /**
+     * Initialise un index vide couvrant une carte.
+     *
+     * @param columns    Le nombre de colonnes de cases.
+     * @param rows       Le nombre de lignes de cases.
+     * @param cellWidth  La largeur d'une case (en pixels).
+     * @param cellHeight La hauteur d'une case (en pixels).
+     */
+    public SpatialHash(int columns, int rows, float cellWidth, float cellHeight) {
+        if (columns <= 0 || rows <= 0 || cellWidth <= 0 || cellHeight <= 0) {
+            throw new IllegalArgumentException("Dimensions d'index invalides : " + columns + "x" + rows);
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.buckets = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            buckets.add(null);
+        }
+        this.cellOf = new IdentityHashMap<>();
+    }
+
+    /**
+     * Ajoute une entité à l'index selon sa position actuelle.
+     *
+     * @param entity L'entité à ajouter.
+     */
+    public void insert(T entity) {
+        int cell = cellAt(entity.getX(), entity.getY());
+        cellOf.put(entity, cell);
+        bucket(cell).add(entity);
+    }
+
+    /**
+     * Retire une entité de l'index.
+     *
+     * @param entity L'entité à retirer.
+     */
+    public void remove(T entity) {
+        Integer cell = cellOf.remove(entity);
+        if (cell != null) {
+            buckets.get(cell).remove(entity);
+        }
+    }
+
+    /**
+     * Met à jour la case d'une entité après un déplacement.
+     *
+     * <p>L'entité ne change de liste que si elle a changé de case.</p>
+     *
+     * @param entity L'entité déplacée.
+     */
+    public void update(T entity) {
+        Integer oldCell = cellOf.get(entity);
+        if (oldCell == null) {
+            return;
+        }
+        int newCell = cellAt(entity.getX(), entity.getY());
+        if (newCell != oldCell) {
+            buckets.get(oldCell).remove(entity);
+            bucket(newCell).add(entity);
+            cellOf.put(entity, newCell);
+        }
+    }
+
+    /**
+     * Recherche les entités susceptibles de chevaucher une boîte.
+     *
+     * <p>Le résultat peut contenir des entités qui ne chevauchent pas la boîte : l'appelant
+     * doit effectuer le test de collision précis.</p>
+     *
+     * @param x      La coordonnée X du coin inférieur gauche de la boîte.
+     * @param y      La coordonnée Y du coin inférieur gauche de la boîte.
+     * @param width  La largeur de la boîte.
+     * @param height La hauteur de la boîte.
+     * @param result La liste vidée puis remplie avec les entités candidates.
+     * @return La liste {@code result}.
+     */
+    public List<T> query(float x, float y, float width, float height, List<T> result) {
+        result.clear();
+        int minX = clamp((int) Math.floor((x - cellWidth) / cellWidth), columns);
+        int minY = clamp((int) Math.floor((y - cellHeight) / cellHeight), rows);
+        int maxX = clamp((int) Math.floor((x + width) / cellWidth), columns);
+        int maxY = clamp((int) Math.floor((y + height) / cellHeight), rows);
+
+        for (int cellY = minY; cellY <= maxY; cellY++) {
+            for (int cellX = minX; cellX <= maxX; cellX++) {
+                List<T> bucket = buckets.get(cellY * columns + cellX);
+                if (bucket != null) {
+                    result.addAll(bucket);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retourne le nombre d'entités indexées.
+     *
+     * @return Le nombre d'entités présentes dans l'index.
+     */
+    public int size() {
+        return cellOf.size();
+    }
+
+    /**
+     * Calcule l'indice de la case contenant un point, ramené dans les limites de l'index.
+     */
+    private int cellAt(float x, float y) {
+        int cellX = clamp((int) Math.floor(x / cellWidth), columns);
+        int cellY = clamp((int) Math.floor(y / cellHeight), rows);
+        return cellY * columns + cellX;
+    }
+
+    /**
+     * Retourne la liste d'une case en la créant si nécessaire.
+     */
+    private List<T> bucket(int cell) {
+        List<T> bucket = buckets.get(cell);
+        if (bucket == null) {
+            bucket = new ArrayList<>(4);
+            buckets.set(cell, bucket);
+        }
+        return bucket;
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+}
@@ -1,6 +1,8 @@
 package com.game.model;
 
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 /**
@@ -11,6 +13,11 @@ import com.badlogic.gdx.graphics.g2d.TextureRegion;
  *
  * <p>Cette classe est utilisée pour représenter les murs et les sols de la carte.</p>
  *
+ * <p>Une tuile peut couvrir un rectangle de plusieurs cases identiques, par exemple un pan de mur
+ * entier : la texture est alors répétée sur chaque case. Si la texture de la tuile est répétable
+ * (voir {@link #Tile(float, float, TextureRegion, float, float, int, int, boolean)}), le
+ * rectangle est dessiné en un seul sprite, dont les coordonnées de texture répètent la case.</p>
+ *
  */
 public class Tile {
     /** Coordonnée X de la tuile sur la carte. */
@@ -19,10 +26,16 @@ public class Tile {
     private float y;
     /** Région de texture représentant l'apparence visuelle de la tuile. */
     private TextureRegion region;
-    /** Largeur de la tuile (en pixels). */
+    /** Largeur d'une case de la tuile (en pixels). */
     private float width;
-    /** Hauteur de la tuile (en pixels). */
+    /** Hauteur d'une case de la tuile (en pixels). */
     private float height;
+    /** Nombre de cases couvertes horizontalement. */
+    private int columns;
+    /** Nombre de cases couvertes verticalement. */
+    private int rows;
+    /** Région répétée sur tout le rectangle, ou {@code null} pour dessiner case par case. */
+    private TextureRegion repeatedRegion;
 
     /**
      * Initialise une nouvelle tuile avec des coordonnées, une texture et des dimensions spécifiées.
@@ -34,11 +47,54 @@ public class Tile {
      * @param tileHeight La hauteur de la tuile.
      */
     public Tile(float x, float y, TextureRegion region, float tileWidth, float tileHeight) {
+        this(x, y, region, tileWidth, tileHeight, 1, 1);
+    }
+
+    /**
+     * Initialise une tuile couvrant un rectangle de cases, avec la même texture sur chaque case.
+     *
+     * @param x          La position horizontale du coin inférieur gauche.
+     * @param y          La position verticale du coin inférieur gauche.
+     * @param region     La texture de chaque case.
+     * @param tileWidth  La largeur d'une case.
+     * @param tileHeight La hauteur d'une case.
+     * @param columns    Le nombre de cases couvertes horizontalement.
+     * @param rows       Le nombre de cases couvertes verticalement.
+     */
+    public Tile(float x, float y, TextureRegion region, float tileWidth, float tileHeight, int columns, int rows) {
+        if (columns <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Dimensions de tuile invalides : " + columns + "x" + rows);
+        }
         this.x = x;
         this.y = y;
         this.region = region;
         this.width = tileWidth;
         this.height = tileHeight;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Initialise une tuile couvrant un rectangle de cases, éventuellement dessinée en un seul sprite.
+     *
+     * @param x          La position horizontale du coin inférieur gauche.
+     * @param y          La position verticale du coin inférieur gauche.
+     * @param region     La texture de chaque case.
+     * @param tileWidth  La largeur d'une case.
+     * @param tileHeight La hauteur d'une case.
+     * @param columns    Le nombre de cases couvertes horizontalement.
+     * @param rows       Le nombre de cases couvertes verticalement.
+     * @param repeated   {@code true} si {@code region} couvre toute sa texture et que celle-ci se
+     *                   répète ({@link Texture.TextureWrap#Repeat}) sur les deux axes : le rectangle
+     *                   est alors dessiné en un seul sprite.
+     */
+    public Tile(float x, float y, TextureRegion region, float tileWidth, float tileHeight, int columns, int rows,
+                boolean repeated) {
+        this(x, y, region, tileWidth, tileHeight, columns, rows);
+        if (repeated) {
+            repeatedRegion = new TextureRegion(region.getTexture());
+            repeatedRegion.setRegion(0f, 0f, columns, rows);
+        }
     }
 
     /**
@@ -47,7 +103,15 @@ public class Tile {
      * @param batch Le {@link SpriteBatch} utilisé pour dessiner la tuile.
      */
     public void render(SpriteBatch batch) {
-        batch.draw(region, x, y);
+        if (repeatedRegion != null) {
+            batch.draw(repeatedRegion, x, y, getWidth(), getHeight());
+            return;
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                batch.draw(region, x + column * width, y + row * height);
+            }
+        }
     }
 
     /**
@@ -59,7 +123,37 @@ public class Tile {
      * @param scale   Facteur d'échelle appliqué à la largeur et à la hauteur.
      */
     public void render(SpriteBatch batch, float offsetX, float offsetY, float scale) {
-        batch.draw(region, offsetX + x * scale, offsetY + y * scale, width * scale, height * scale);
+        if (repeatedRegion != null) {
+            batch.draw(repeatedRegion, offsetX + x * scale, offsetY + y * scale, getWidth() * scale, getHeight() * scale);
+            return;
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                batch.draw(region, offsetX + (x + column * width) * scale, offsetY + (y + row * height) * scale,
+                    width * scale, height * scale);
+            }
+        }
+    }
+
+    /**
+     * Ajoute la tuile au cache en cours de construction, avec un décalage et une échelle spécifiés.
+     *
+     * @param cache   Le {@link SpriteCache} dont un cache est en cours de construction.
+     * @param offsetX Décalage horizontal pour le rendu.
+     * @param offsetY Décalage vertical pour le rendu.
+     * @param scale   Facteur d'échelle appliqué à la largeur et à la hauteur.
+     */
+    public void cache(SpriteCache cache, float offsetX, float offsetY, float scale) {
+        if (repeatedRegion != null) {
+            cache.add(repeatedRegion, offsetX + x * scale, offsetY + y * scale, getWidth() * scale, getHeight() * scale);
+            return;
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                cache.add(region, offsetX + (x + column * width) * scale, offsetY + (y + row * height) * scale,
+                    width * scale, height * scale);
+            }
+        }
     }
 
     /**
@@ -70,7 +164,16 @@ public class Tile {
      * @param offsetY Décalage vertical pour le rendu.
      */
     public void render(SpriteBatch batch, float offsetX, float offsetY) {
-        batch.draw(region, x + offsetX, y + offsetY, region.getRegionWidth(), region.getRegionHeight());
+        if (repeatedRegion != null) {
+            batch.draw(repeatedRegion, x + offsetX, y + offsetY, getWidth(), getHeight());
+            return;
+        }
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                batch.draw(region, x + column * width + offsetX, y + row * height + offsetY,
+                    region.getRegionWidth(), region.getRegionHeight());
+            }
+        }
     }
 
     public float getX() {
@@ -82,11 +185,30 @@ public class Tile {
     }
 
     public float getWidth() {
-        return width;
+        return width * columns;
     }
 
     public float getHeight() {
-        return height;
+        return height * rows;
+    }
+
+    /**
+     * Retourne le nombre de cases couvertes par la tuile.
+     *
+     * @return Le nombre de cases de la tuile.
+     */
+    public int getCellCount() {
+        return columns * rows;
+    }
+
+    /**
+     * Retourne le nombre de sprites nécessaires pour dessiner la tuile : un seul si sa texture
+     * est répétée, sinon un par case.
+     *
+     * @return Le nombre de sprites de la tuile.
+     */
+    public int getSpriteCount() {
+        return repeatedRegion != null ? 1 : getCellCount();
     }
 
 }
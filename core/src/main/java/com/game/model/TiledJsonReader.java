@@ -0,0 +1,829 @@
+package com.game.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * La classe {@code TiledJsonReader} lit une carte Tiled au format JSON en un seul passage, sans
+ * construire d'arbre JSON en mémoire.
+ *
+ * <p>Le fichier est lu octet par octet et seules les clés utiles au jeu sont décodées :
+ * les dimensions de la carte, l'image du tileset, les couches de tuiles et les objets. Les
+ * tableaux {@code data} des couches de tuiles sont décodés directement dans des tableaux
+ * d'entiers ; la mémoire occupée pendant le chargement est donc de l'ordre de celle des tuiles
+ * elles-mêmes, quelle que soit la taille de la carte.</p>
+ *
+ * <p>Tiled écrit les clés par ordre alphabétique : les couches précèdent la largeur de la carte.
+ * Les tuiles et les objets sont donc conservés tels quels, puis interprétés par {@link GameMap}
+ * une fois la lecture terminée.</p>
+ *
+ * <p>Les couches d'une carte infinie ({@code "infinite":true}) n'ont pas de tableau {@code data}
+ * unique mais des morceaux ({@code chunks}), chacun avec sa position et ses propres tuiles.</p>
+ *
+ * <p>Les tuiles peuvent aussi être encodées en base64 ({@code "encoding":"base64"}), éventuellement
+ * compressées ({@code "compression":"zlib"} ou {@code "gzip"}). Le texte base64 d'une couche dont
+ * la compression est déjà connue est décodé au fil de la lecture du fichier, directement dans un
+ * tableau d'entiers. Les morceaux précèdent la compression dans l'ordre alphabétique : leur texte
+ * base64 est gardé tel quel, puis décodé de la même façon à la fin de la couche. La compression
+ * {@code zstd} n'est pas prise en charge par Java : une telle carte est refusée avec un message
+ * explicite.</p>
+ */
+class TiledJsonReader {
+    /** Taille du tampon de lecture (en octets). */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    /** Tampon réutilisé pour décoder les chaînes et les nombres réels. */
+    private byte[] text = new byte[64];
+
+    private int width;
+    private int height;
+    private int tileWidth;
+    private int tileHeight;
+    private String tilesetImage;
+    private boolean infinite;
+    /** Couches de tuiles, dans l'ordre du fichier. */
+    private final List<int[]> tileLayers = new ArrayList<>();
+    /** Morceaux des couches de tuiles d'une carte infinie, dans l'ordre du fichier. */
+    private final List<TileChunk> tileChunks = new ArrayList<>();
+    /** Objets des couches d'objets, dans l'ordre du fichier. */
+    private final List<MapObject> objects = new ArrayList<>();
+
+    /**
+     * Prépare la lecture d'une carte.
+     *
+     * @param in Le flux de la carte JSON. Il n'est pas fermé par le lecteur.
+     */
+    TiledJsonReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Lit toute la carte.
+     *
+     * @throws IOException si le flux ne peut pas être lu.
+     * @throws IllegalArgumentException si le fichier n'est pas une carte JSON valide.
+     */
+    void read() throws IOException {
+        expect('{');
+        if (skipWhitespace() == '}') {
+            position++;
+            return;
+        }
+        do {
+            String key = readString();
+            expect(':');
+            switch (key) {
+                case "width":
+                    width = readInt();
+                    break;
+                case "height":
+                    height = readInt();
+                    break;
+                case "tilewidth":
+                    tileWidth = readInt();
+                    break;
+                case "tileheight":
+                    tileHeight = readInt();
+                    break;
+                case "infinite":
+                    infinite = readBoolean();
+                    break;
+                case "tilesets":
+                    readTilesets();
+                    break;
+                case "layers":
+                    readLayers();
+                    break;
+                default:
+                    skipValue();
+            }
+        } while (nextMember('}'));
+    }
+
+    /**
+     * Lit le tableau des tilesets et retient l'image du premier.
+     */
+    private void readTilesets() throws IOException {
+        expect('[');
+        if (skipWhitespace() == ']') {
+            position++;
+            return;
+        }
+        do {
+            if (tilesetImage != null) {
+                skipValue();
+                continue;
+            }
+            expect('{');
+            if (skipWhitespace() == '}') {
+                position++;
+                continue;
+            }
+            do {
+                String key = readString();
+                expect(':');
+                if ("image".equals(key)) {
+                    tilesetImage = readString();
+                } else {
+                    skipValue();
+                }
+            } while (nextMember('}'));
+        } while (nextMember(']'));
+    }
+
+    /**
+     * Lit le tableau des couches.
+     */
+    private void readLayers() throws IOException {
+        expect('[');
+        if (skipWhitespace() == ']') {
+            position++;
+            return;
+        }
+        do {
+            readLayer();
+        } while (nextMember(']'));
+    }
+
+    /**
+     * Lit une couche. Son type pouvant suivre ses données, les tuiles et les objets ne sont
+     * retenus qu'à la fin de la couche, selon son type.
+     */
+    private void readLayer() throws IOException {
+        String type = null;
+        String compression = null;
+        int layerWidth = 0;
+        int layerHeight = 0;
+        int[] tiles = null;
+        byte[] encodedTiles = null;
+        List<TileChunk> chunks = null;
+        List<MapObject> layerObjects = null;
+
+        expect('{');
+        if (skipWhitespace() == '}') {
+            position++;
+            return;
+        }
+        do {
+            String key = readString();
+            expect(':');
+            switch (key) {
+                case "type":
+                    type = readString();
+                    break;
+                case "data":
+                    if (skipWhitespace() == '"' && compression != null) {
+                        tiles = readEncodedTiles(compression, layerWidth * layerHeight);
+                    } else if (skipWhitespace() == '"') {
+                        encodedTiles = readStringBytes();
+                    } else if (layerWidth > 0 && layerHeight > 0) {
+                        tiles = readTileData(layerWidth * layerHeight);
+                    } else {
+                        // L'ordre des clés n'est pas garanti : dimensions de la carte, si déjà lues
+                        tiles = readTileData(width * height);
+                    }
+                    break;
+                case "compression":
+                    compression = readString();
+                    break;
+                case "width":
+                    layerWidth = readInt();
+                    break;
+                case "height":
+                    layerHeight = readInt();
+                    break;
+                case "chunks":
+                    chunks = readChunks();
+                    break;
+                case "objects":
+                    layerObjects = readObjects();
+                    break;
+                default:
+                    skipValue();
+            }
+        } while (nextMember('}'));
+
+        // Les tuiles encodées ne peuvent être décodées qu'une fois la compression connue
+        if (encodedTiles != null) {
+            tiles = decodeTiles(new ByteArrayInputStream(encodedTiles), compression, layerWidth * layerHeight);
+        }
+        if (chunks != null) {
+            for (TileChunk chunk : chunks) {
+                if (chunk.encodedData != null) {
+                    chunk.data = decodeTiles(new ByteArrayInputStream(chunk.encodedData), compression,
+                        chunk.width * chunk.height);
+                    chunk.encodedData = null;
+                }
+            }
+        }
+
+        if ("tilelayer".equals(type) && tiles != null) {
+            tileLayers.add(tiles);
+        } else if ("tilelayer".equals(type) && chunks != null) {
+            tileChunks.addAll(chunks);
+        } else if ("objectgroup".equals(type) && layerObjects != null) {
+            objects.addAll(layerObjects);
+        }
+    }
+
+    /**
+     * Lit le tableau des morceaux d'une couche de tuiles infinie.
+     *
+     * @return Les morceaux de la couche.
+     */
+    private List<TileChunk> readChunks() throws IOException {
+        List<TileChunk> chunks = new ArrayList<>();
+        expect('[');
+        if (skipWhitespace() == ']') {
+            position++;
+            return chunks;
+        }
+        do {
+            TileChunk chunk = new TileChunk();
+            expect('{');
+            if (skipWhitespace() == '}') {
+                position++;
+                continue;
+            }
+            do {
+                String key = readString();
+                expect(':');
+                switch (key) {
+                    case "data":
+                        if (skipWhitespace() == '"') {
+                            chunk.encodedData = readStringBytes();
+                        } else if (chunk.width > 0 && chunk.height > 0) {
+                            chunk.data = readTileData(chunk.width * chunk.height);
+                        } else {
+                            // Tiled écrit "data" avant les dimensions du morceau : 16x16 par défaut
+                            chunk.data = readTileData(chunks.isEmpty() ? 16 * 16 : chunks.get(0).width * chunks.get(0).height);
+                        }
+                        break;
+                    case "width":
+                        chunk.width = readInt();
+                        break;
+                    case "height":
+                        chunk.height = readInt();
+                        break;
+                    case "x":
+                        chunk.x = readInt();
+                        break;
+                    case "y":
+                        chunk.y = readInt();
+                        break;
+                    default:
+                        skipValue();
+                }
+            } while (nextMember('}'));
+            if (chunk.data != null || chunk.encodedData != null) {
+                chunks.add(chunk);
+            }
+        } while (nextMember(']'));
+        return chunks;
+    }
+
+    /**
+     * Décode un tableau {@code data} dans un tableau d'entiers, sans objet intermédiaire.
+     *
+     * <p>Le nombre de tuiles attendu n'est qu'une estimation : il vaut {@code 0} ou déborde si
+     * les dimensions ne sont pas encore lues, et le tableau est alors agrandi au fil de la
+     * lecture.</p>
+     *
+     * @param expectedSize Le nombre de tuiles attendu, qui sert de capacité initiale.
+     * @return Les identifiants globaux des tuiles.
+     */
+    private int[] readTileData(int expectedSize) throws IOException {
+        expect('[');
+
+        int[] tiles = new int[Math.max(16, expectedSize)];
+        int count = 0;
+        if (skipWhitespace() == ']') {
+            position++;
+            return new int[0];
+        }
+        do {
+            if (count == tiles.length) {
+                tiles = Arrays.copyOf(tiles, count * 2);
+            }
+            tiles[count++] = readInt();
+        } while (nextMember(']'));
+
+        return count == tiles.length ? tiles : Arrays.copyOf(tiles, count);
+    }
+
+    /**
+     * Décode une chaîne {@code data} encodée en base64 au fil de la lecture du fichier, sans
+     * copier son texte.
+     *
+     * @param compression  La compression de la couche ({@code null} ou vide si aucune).
+     * @param expectedSize Le nombre de tuiles attendu, qui sert de capacité initiale.
+     * @return Les identifiants globaux des tuiles.
+     */
+    private int[] readEncodedTiles(String compression, int expectedSize) throws IOException {
+        expect('"');
+        StringContent content = new StringContent();
+        int[] tiles = decodeTiles(content, compression, expectedSize);
+        content.skipRemaining();
+        return tiles;
+    }
+
+    /**
+     * Décode des tuiles encodées en base64 : des entiers non signés sur 32 bits, en
+     * petit-boutiste, éventuellement compressés.
+     *
+     * <p>Le texte base64 est décodé puis décompressé par flux : les octets sont assemblés en
+     * entiers au fil de la lecture, sans tampon intermédiaire de la taille de la couche.</p>
+     *
+     * @param base64       Le flux du texte base64 des tuiles.
+     * @param compression  La compression de la couche ({@code null} ou vide si aucune).
+     * @param expectedSize Le nombre de tuiles attendu, qui sert de capacité initiale.
+     * @return Les identifiants globaux des tuiles.
+     */
+    private static int[] decodeTiles(InputStream base64, String compression, int expectedSize) throws IOException {
+        InputStream in = Base64.getDecoder().wrap(base64);
+        if ("zlib".equals(compression)) {
+            in = new InflaterInputStream(in);
+        } else if ("gzip".equals(compression)) {
+            in = new GZIPInputStream(in);
+        } else if ("zstd".equals(compression)) {
+            throw new IllegalArgumentException("Compression des tuiles non supportée : zstd. "
+                + "Enregistrer la carte dans Tiled avec la compression zlib ou gzip");
+        } else if (compression != null && !compression.isEmpty()) {
+            throw new IllegalArgumentException("Compression des tuiles non supportée : " + compression);
+        }
+
+        int[] tiles = new int[Math.max(16, expectedSize)];
+        int count = 0;
+        byte[] chunk = new byte[8192];
+        int pending = 0; // Octets d'un entier coupé entre deux lectures
+        int value = 0;
+        try (InputStream data = in) {
+            int read;
+            while ((read = data.read(chunk)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    value |= (chunk[i] & 0xFF) << (8 * pending);
+                    if (++pending == 4) {
+                        if (count == tiles.length) {
+                            tiles = Arrays.copyOf(tiles, count * 2);
+                        }
+                        tiles[count++] = value;
+                        pending = 0;
+                        value = 0;
+                    }
+                }
+            }
+        }
+        if (pending != 0) {
+            throw new IllegalArgumentException("Carte JSON invalide : tuiles encodées tronquées");
+        }
+        return count == tiles.length ? tiles : Arrays.copyOf(tiles, count);
+    }
+
+    /**
+     * Flux des octets d'une chaîne JSON en cours de lecture, dont le guillemet ouvrant a déjà été
+     * lu. Le flux se termine au guillemet fermant, qui est consommé. Les séquences d'échappement
+     * d'un caractère ({@code \/} par exemple) sont décodées ; le texte base64 n'en contient pas
+     * d'autres.
+     */
+    private final class StringContent extends InputStream {
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            if (ended) {
+                return -1;
+            }
+            int c = next();
+            if (c == '"') {
+                ended = true;
+                return -1;
+            }
+            if (c == '\\') {
+                c = next();
+            }
+            if (c < 0) {
+                throw syntaxError("'\"'", c);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            int count = 0;
+            while (count < length) {
+                int c = read();
+                if (c < 0) {
+                    break;
+                }
+                bytes[offset + count++] = (byte) c;
+            }
+            return count == 0 && length > 0 ? -1 : count;
+        }
+
+        /**
+         * Passe la fin de la chaîne, si le décodage s'est arrêté avant le guillemet fermant.
+         */
+        void skipRemaining() throws IOException {
+            while (read() >= 0) {
+                // Rien à faire
+            }
+        }
+    }
+
+    /**
+     * Lit le tableau des objets d'une couche d'objets.
+     *
+     * @return Les objets de la couche.
+     */
+    private List<MapObject> readObjects() throws IOException {
+        List<MapObject> layerObjects = new ArrayList<>();
+        expect('[');
+        if (skipWhitespace() == ']') {
+            position++;
+            return layerObjects;
+        }
+        do {
+            MapObject object = new MapObject();
+            expect('{');
+            if (skipWhitespace() == '}') {
+                position++;
+                continue;
+            }
+            do {
+                String key = readString();
+                expect(':');
+                switch (key) {
+                    case "type":
+                        object.type = readString();
+                        break;
+                    case "x":
+                        object.x = (float) readDouble();
+                        break;
+                    case "y":
+                        object.y = (float) readDouble();
+                        break;
+                    case "properties":
+                        readProperties(object);
+                        break;
+                    default:
+                        skipValue();
+                }
+            } while (nextMember('}'));
+            layerObjects.add(object);
+        } while (nextMember(']'));
+        return layerObjects;
+    }
+
+    /**
+     * Lit les propriétés d'un objet et retient la propriété {@code movable}.
+     */
+    private void readProperties(MapObject object) throws IOException {
+        expect('[');
+        if (skipWhitespace() == ']') {
+            position++;
+            return;
+        }
+        do {
+            String name = null;
+            String value = null;
+            expect('{');
+            if (skipWhitespace() == '}') {
+                position++;
+                continue;
+            }
+            do {
+                String key = readString();
+                expect(':');
+                if ("name".equals(key)) {
+                    name = readString();
+                } else if ("value".equals(key) && skipWhitespace() == '"') {
+                    value = readString();
+                } else {
+                    skipValue();
+                }
+            } while (nextMember('}'));
+
+            if ("movable".equals(name) && value != null) {
+                object.movementType = value;
+            }
+        } while (nextMember(']'));
+    }
+
+    // ----- Lecture des éléments JSON -----
+
+    /**
+     * Passe au membre suivant d'un objet ou d'un tableau.
+     *
+     * @param end Le caractère fermant l'objet ou le tableau.
+     * @return {@code true} si un autre membre suit, {@code false} à la fin de l'objet ou du tableau.
+     */
+    private boolean nextMember(char end) throws IOException {
+        int c = skipWhitespace();
+        position++;
+        if (c == ',') {
+            return true;
+        }
+        if (c == end) {
+            return false;
+        }
+        throw syntaxError("',' ou '" + end + "'", c);
+    }
+
+    /**
+     * Passe une valeur JSON quelconque.
+     */
+    private void skipValue() throws IOException {
+        int c = skipWhitespace();
+        if (c == '"') {
+            skipString();
+        } else if (c == '{' || c == '[') {
+            int depth = 0;
+            do {
+                c = skipWhitespace();
+                if (c == '"') {
+                    skipString();
+                    continue;
+                }
+                position++;
+                if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+            } while (depth > 0);
+        } else {
+            // Nombre, true, false ou null
+            while (true) {
+                c = peek();
+                if (c < 0 || c == ',' || c == '}' || c == ']' || c <= ' ') {
+                    break;
+                }
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Lit un entier. Les identifiants de tuiles peuvent dépasser {@link Integer#MAX_VALUE}
+     * (bits de retournement de Tiled) : ils sont lus comme des entiers non signés sur 32 bits.
+     */
+    private int readInt() throws IOException {
+        int c = skipWhitespace();
+        boolean negative = c == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        int digits = 0;
+        while ((c = peek()) >= '0' && c <= '9') {
+            value = value * 10 + (c - '0');
+            position++;
+            digits++;
+        }
+        if (c == '.' || c == 'e' || c == 'E') {
+            // Nombre réel inattendu : le tronquer
+            while ((c = peek()) >= 0 && (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-' || (c >= '0' && c <= '9'))) {
+                position++;
+            }
+        }
+        if (digits == 0) {
+            throw syntaxError("un nombre", c);
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    /**
+     * Lit un booléen.
+     */
+    private boolean readBoolean() throws IOException {
+        int c = skipWhitespace();
+        if (c != 't' && c != 'f') {
+            throw syntaxError("un booléen", c);
+        }
+        skipValue();
+        return c == 't';
+    }
+
+    /**
+     * Lit un nombre réel.
+     */
+    private double readDouble() throws IOException {
+        skipWhitespace();
+        int length = 0;
+        int c;
+        while ((c = peek()) >= 0 && (c == '.' || c == 'e' || c == 'E' || c == '+' || c == '-' || (c >= '0' && c <= '9'))) {
+            if (length == text.length) {
+                text = Arrays.copyOf(text, length * 2);
+            }
+            text[length++] = (byte) c;
+            position++;
+        }
+        if (length == 0) {
+            throw syntaxError("un nombre", c);
+        }
+        return Double.parseDouble(new String(text, 0, length, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Lit une chaîne de caractères et décode ses séquences d'échappement.
+     */
+    private String readString() throws IOException {
+        int length = readStringToText();
+        return new String(text, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Lit une chaîne de caractères sous forme d'octets UTF-8, sans construire de {@link String}.
+     */
+    private byte[] readStringBytes() throws IOException {
+        int length = readStringToText();
+        return Arrays.copyOf(text, length);
+    }
+
+    /**
+     * Lit une chaîne de caractères dans le tampon {@link #text}.
+     *
+     * @return Le nombre d'octets UTF-8 de la chaîne.
+     */
+    private int readStringToText() throws IOException {
+        expect('"');
+        int length = 0;
+        while (true) {
+            int c = next();
+            if (c == '"') {
+                break;
+            }
+            if (c < 0) {
+                throw syntaxError("'\"'", c);
+            }
+            if (c == '\\') {
+                int escaped = next();
+                switch (escaped) {
+                    case 'b': c = '\b'; break;
+                    case 'f': c = '\f'; break;
+                    case 'n': c = '\n'; break;
+                    case 'r': c = '\r'; break;
+                    case 't': c = '\t'; break;
+                    case 'u':
+                        int codePoint = 0;
+                        for (int i = 0; i < 4; i++) {
+                            codePoint = (codePoint << 4) | Character.digit(next(), 16);
+                        }
+                        byte[] encoded = String.valueOf((char) codePoint).getBytes(StandardCharsets.UTF_8);
+                        for (byte b : encoded) {
+                            text = append(text, length++, b);
+                        }
+                        continue;
+                    default: c = escaped; // '"', '\\' et '/'
+                }
+            }
+            text = append(text, length++, (byte) c);
+        }
+        return length;
+    }
+
+    /**
+     * Passe une chaîne de caractères sans la décoder.
+     */
+    private void skipString() throws IOException {
+        expect('"');
+        while (true) {
+            int c = next();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                next();
+            } else if (c < 0) {
+                throw syntaxError("'\"'", c);
+            }
+        }
+    }
+
+    private static byte[] append(byte[] array, int index, byte value) {
+        if (index == array.length) {
+            array = Arrays.copyOf(array, index * 2);
+        }
+        array[index] = value;
+        return array;
+    }
+
+    private void expect(char expected) throws IOException {
+        int c = skipWhitespace();
+        if (c != expected) {
+            throw syntaxError("'" + expected + "'", c);
+        }
+        position++;
+    }
+
+    /**
+     * Passe les espaces et retourne le caractère suivant sans le consommer.
+     */
+    private int skipWhitespace() throws IOException {
+        int c;
+        while ((c = peek()) == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            position++;
+        }
+        return c;
+    }
+
+    private int next() throws IOException {
+        int c = peek();
+        position++;
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position >= limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position] & 0xFF;
+    }
+
+    private IllegalArgumentException syntaxError(String expected, int found) {
+        String actual = found < 0 ? "la fin du fichier" : "'" + (char) found + "'";
+        return new IllegalArgumentException("Carte JSON invalide : " + expected + " attendu, " + actual + " trouvé");
+    }
+
+    // ----- Résultat de la lecture -----
+
+    int getWidth() {
+        return width;
+    }
+
+    int getHeight() {
+        return height;
+    }
+
+    int getTileWidth() {
+        return tileWidth;
+    }
+
+    int getTileHeight() {
+        return tileHeight;
+    }
+
+    String getTilesetImage() {
+        return tilesetImage;
+    }
+
+    boolean isInfinite() {
+        return infinite;
+    }
+
+    List<int[]> getTileLayers() {
+        return tileLayers;
+    }
+
+    List<TileChunk> getTileChunks() {
+        return tileChunks;
+    }
+
+    List<MapObject> getObjects() {
+        return objects;
+    }
+
+    /**
+     * Morceau d'une couche de tuiles infinie, tel qu'il est décrit dans Tiled.
+     */
+    static class TileChunk {
+        /** Colonne de la première tuile du morceau (peut être négative). */
+        int x;
+        /** Ligne de la première tuile du morceau, comptée depuis le haut (peut être négative). */
+        int y;
+        int width;
+        int height;
+        /** Identifiants globaux des tuiles, ligne par ligne depuis le haut. */
+        int[] data;
+        /** Texte base64 des tuiles, en attendant que la compression de la couche soit connue. */
+        byte[] encodedData;
+    }
+
+    /**
+     * Objet d'une couche d'objets, tel qu'il est décrit dans Tiled.
+     */
+    static class MapObject {
+        String type;
+        float x;
+        float y;
+        /** Valeur de la propriété {@code movable}, {@code horizontal} par défaut. */
+        String movementType = "horizontal";
+    }
+}
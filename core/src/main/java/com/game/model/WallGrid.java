@@ -0,0 +1,83 @@
+package com.game.model;
+
+/**
+ * L'interface {@code WallGrid} décrit la disposition des murs de la carte, case par case.
+ *
+ * <p>Les cases sont indexées dans le repère du monde : la ligne {@code 0} correspond au bas
+ * de la carte, comme les coordonnées Y des entités. Une carte finie garde toute sa grille en
+ * mémoire ({@link OccupancyGrid}) ; une carte infinie ne garde que les morceaux proches du
+ * joueur ({@link ChunkedWallGrid}).</p>
+ */
+public interface WallGrid {
+    /**
+     * Vérifie si une case contient un mur.
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case (depuis le bas de la carte).
+     * @return {@code true} si la case contient un mur, sinon {@code false}.
+     */
+    boolean isWall(int cellX, int cellY);
+
+    /**
+     * Vérifie si une boîte alignée sur les axes chevauche au moins un mur.
+     *
+     * <p>Les bords de la boîte sont exclusifs : une boîte qui touche un mur sans le
+     * recouvrir n'est pas en collision.</p>
+     *
+     * @param x      La coordonnée X du coin inférieur gauche de la boîte.
+     * @param y      La coordonnée Y du coin inférieur gauche de la boîte.
+     * @param width  La largeur de la boîte.
+     * @param height La hauteur de la boîte.
+     * @return {@code true} si la boîte chevauche un mur, sinon {@code false}.
+     */
+    default boolean overlaps(float x, float y, float width, float height) {
+        int minX = (int) Math.floor(x / getCellWidth());
+        int minY = (int) Math.floor(y / getCellHeight());
+        int maxX = (int) Math.ceil((x + width) / getCellWidth()) - 1;
+        int maxY = (int) Math.ceil((y + height) / getCellHeight()) - 1;
+
+        for (int cellY = minY; cellY <= maxY; cellY++) {
+            for (int cellX = minX; cellX <= maxX; cellX++) {
+                if (isWall(cellX, cellY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Vérifie si la disposition d'une case est connue.
+     *
+     * <p>Une case inconnue est un mur pour {@link #isWall}, mais elle pourra devenir libre plus
+     * tard : un résultat qui en dépend ne doit pas être gardé.</p>
+     *
+     * @param cellX La colonne de la case.
+     * @param cellY La ligne de la case (depuis le bas de la carte).
+     * @return {@code true} si la case est connue, sinon {@code false}.
+     */
+    default boolean isKnown(int cellX, int cellY) {
+        return true;
+    }
+
+    /**
+     * Retourne le numéro de version de la disposition des murs, qui change à chaque modification
+     * de la grille. Un calcul fait à partir des murs peut être gardé tant que la version ne
+     * change pas.
+     *
+     * @return La version de la grille.
+     */
+    int getVersion();
+
+    /** @return La largeur de la grille (en nombre de cases). */
+    int getWidth();
+
+    /** @return La hauteur de la grille (en nombre de cases). */
+    int getHeight();
+
+    /** @return La largeur d'une case (en pixels). */
+    int getCellWidth();
+
+    /** @return La hauteur d'une case (en pixels). */
+    int getCellHeight();
+}
@@ -0,0 +1,131 @@
+package com.game.model;
+
+import java.util.Arrays;
+
+/**
+ * La classe {@code WallRectangles} regroupe les murs d'une grille en rectangles.
+ *
+ * <p>Les cases des murs sont fusionnées de façon gloutonne : depuis chaque mur pas encore
+ * couvert, en partant du bas à gauche, le rectangle s'étend d'abord vers la droite tant que les
+ * cases sont des murs, puis vers le haut tant que toute la rangée suivante en est. Un mur droit
+ * de cinquante cases devient ainsi un seul rectangle.</p>
+ *
+ * <p>Les rectangles sont gardés dans des tableaux d'entiers, en cases, et couvrent exactement les
+ * murs de la grille, sans se chevaucher.</p>
+ */
+public final class WallRectangles {
+    /** Nombre de rectangles. */
+    private int count;
+    /** Coin inférieur gauche et taille de chaque rectangle (en cases). */
+    private int[] x = new int[64];
+    private int[] y = new int[64];
+    private int[] width = new int[64];
+    private int[] height = new int[64];
+
+    private WallRectangles() {
+    }
+
+    /**
+     * Fusionne les murs d'une grille finie en rectangles.
+     *
+     * @param grid La grille des murs, entièrement en mémoire.
+     * @return Les rectangles couvrant les murs de la grille.
+     */
+    public static WallRectangles merge(WallGrid grid) {
+        if (grid == null) {
+            throw new IllegalArgumentException("WallGrid ne peut pas être null");
+        }
+        int gridWidth = grid.getWidth();
+        int gridHeight = grid.getHeight();
+        long[] covered = new long[(int) (((long) gridWidth * gridHeight + 63) >>> 6)];
+        WallRectangles rectangles = new WallRectangles();
+
+        for (int cellY = 0; cellY < gridHeight; cellY++) {
+            for (int cellX = 0; cellX < gridWidth; cellX++) {
+                if (!grid.isWall(cellX, cellY) || isSet(covered, cellY * gridWidth + cellX)) {
+                    continue;
+                }
+
+                // Étendre vers la droite
+                int right = cellX + 1;
+                while (right < gridWidth && grid.isWall(right, cellY) && !isSet(covered, cellY * gridWidth + right)) {
+                    right++;
+                }
+
+                // Étendre vers le haut tant que toute la rangée est faite de murs libres
+                int top = cellY + 1;
+                while (top < gridHeight && isFreeRow(grid, covered, cellX, right, top)) {
+                    top++;
+                }
+
+                for (int row = cellY; row < top; row++) {
+                    for (int column = cellX; column < right; column++) {
+                        int index = row * gridWidth + column;
+                        covered[index >>> 6] |= 1L << index;
+                    }
+                }
+                rectangles.add(cellX, cellY, right - cellX, top - cellY);
+            }
+        }
+        return rectangles;
+    }
+
+    /**
+     * Vérifie si les cases {@code [from, to[} d'une rangée sont toutes des murs non couverts.
+     */
+    private static boolean isFreeRow(WallGrid grid, long[] covered, int from, int to, int row) {
+        for (int column = from; column < to; column++) {
+            if (!grid.isWall(column, row) || isSet(covered, row * grid.getWidth() + column)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void add(int cellX, int cellY, int columns, int rows) {
+        if (count == x.length) {
+            x = Arrays.copyOf(x, count * 2);
+            y = Arrays.copyOf(y, count * 2);
+            width = Arrays.copyOf(width, count * 2);
+            height = Arrays.copyOf(height, count * 2);
+        }
+        x[count] = cellX;
+        y[count] = cellY;
+        width[count] = columns;
+        height[count] = rows;
+        count++;
+    }
+
+    /**
+     * Retourne le nombre de rectangles.
+     *
+     * @return Le nombre de rectangles.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /** @return La colonne de la case inférieure gauche du rectangle. */
+    public int getX(int index) {
+        return x[index];
+    }
+
+    /** @return La ligne de la case inférieure gauche du rectangle (depuis le bas de la carte). */
+    public int getY(int index) {
+        return y[index];
+    }
+
+    /** @return La largeur du rectangle (en cases). */
+    public int getWidth(int index) {
+        return width[index];
+    }
+
+    /** @return La hauteur du rectangle (en cases). */
+    public int getHeight(int index) {
+        return height[index];
+    }
+}
@@ -1,7 +1,7 @@
 package com.game.view;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
@@ -11,6 +11,7 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.game.controller.*;
 import com.game.assets.AssetPaths;
+import com.game.assets.TextureRegistry;
 
 /**
  * La classe abstraite {@code EndScreen} représente un écran de fin de niveau.
@@ -41,6 +42,8 @@ public abstract class EndScreen {
     protected ScreenManager screenManager;
     /** Gestionnaire de niveaux pour recharger ou gérer les niveaux. */
     protected LevelManager levelManager;
+    /** Chemin de l'image de titre, utilisé pour rendre sa région au registre. */
+    private String titleImagePath;
 
     /**
      * Initialise un écran de fin avec une image de titre et des options interactives.
@@ -52,18 +55,19 @@ public abstract class EndScreen {
     public EndScreen(String titleImagePath, final ScreenManager screenManager, final LevelManager levelManager) {
         this.screenManager = screenManager;
         this.levelManager = levelManager;
+        this.titleImagePath = titleImagePath;
 
         stage = new Stage(new ScreenViewport());
 
         // Charger l'image du titre
-        Texture titleTexture = new Texture(titleImagePath);
+        TextureRegion titleTexture = TextureRegistry.acquire(titleImagePath);
         titleImage = new Image(titleTexture); // Créer un objet Image avec la texture du titre
         titleImage.setSize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight() / 3); // Redimensionner l'image du titre
 
         // Charger les images pour les boutons
-        Texture replayTexture = new Texture(AssetPaths.REPLAY_BUTTON);
-        Texture quitTexture = new Texture(AssetPaths.EXIT_BUTTON);
-        Texture levelSelectTexture = new Texture(AssetPaths.SELECT_BUTTON);  // Image pour "Niveaux"
+        TextureRegion replayTexture = TextureRegistry.acquire(AssetPaths.REPLAY_BUTTON);
+        TextureRegion quitTexture = TextureRegistry.acquire(AssetPaths.EXIT_BUTTON);
+        TextureRegion levelSelectTexture = TextureRegistry.acquire(AssetPaths.SELECT_BUTTON);  // Image pour "Niveaux"
 
         // Créer et configurer le bouton "Replay"
         replayButton = new ImageButton(new ImageButton.ImageButtonStyle());
@@ -146,6 +150,10 @@ public abstract class EndScreen {
      */
     public void dispose() {
         stage.dispose();
+        TextureRegistry.release(titleImagePath);
+        TextureRegistry.release(AssetPaths.REPLAY_BUTTON);
+        TextureRegistry.release(AssetPaths.EXIT_BUTTON);
+        TextureRegistry.release(AssetPaths.SELECT_BUTTON);
     }
 
     /**
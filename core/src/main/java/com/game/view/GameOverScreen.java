@@ -5,6 +5,7 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.game.controller.*;
 import com.game.assets.AssetPaths;
+import com.game.assets.GameAssets;
 
 /**
  * La classe {@code GameOverScreen} représente l'écran de fin de jeu lorsqu'une partie est perdue.
@@ -23,7 +24,7 @@ public class GameOverScreen extends EndScreen implements GameScreen {
         super(AssetPaths.GAMEOVER, screenManager, levelManager);  // Appel du constructeur parent
 
         // Charger la musique pour l'écran Game Over
-        gameOverMusic = Gdx.audio.newMusic(Gdx.files.internal(AssetPaths.GAMEOVER_MUSIC));
+        gameOverMusic = GameAssets.get(AssetPaths.GAMEOVER_MUSIC, Music.class);
         gameOverMusic.setLooping(false);  // Ne pas boucler
     }
 
@@ -62,8 +63,6 @@ public class GameOverScreen extends EndScreen implements GameScreen {
     public void dispose() {
         super.dispose();  // Libérer les ressources de EndScreen
 
-        if (gameOverMusic != null) {
-            gameOverMusic.dispose();
-        }
+        // La musique appartient à GameAssets, qui la libère à la fermeture du jeu
     }
 }
@@ -1,8 +1,9 @@
 package com.game.view;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.game.assets.AssetPaths;
+import com.game.assets.TextureRegistry;
 
 /**
  * La classe {@code HUD} (Heads-Up Display) affiche les informations essentielles au joueur,
@@ -15,8 +16,8 @@ import com.game.assets.AssetPaths;
  *
  */
 public class HUD {
-    /** Texture utilisée pour représenter une vie (cœur). */
-    private Texture heartTexture;
+    /** Région de l'atlas utilisée pour représenter une vie (cœur). */
+    private TextureRegion heartTexture;
     /** Nombre maximum de vies du joueur. */
     private int maxLives;
 
@@ -27,7 +28,7 @@ public class HUD {
      */
     public HUD(int maxLives) {
         this.maxLives = maxLives;
-        heartTexture = new Texture(AssetPaths.HEART_TEXTURE);
+        heartTexture = TextureRegistry.acquire(AssetPaths.HEART_TEXTURE);
     }
 
     /**
@@ -50,12 +51,12 @@ public class HUD {
     }
 
     /**
-     * Libère les ressources associées à la texture du HUD.
+     * Rend la référence du HUD sur la région partagée des cœurs.
      *
      * <p>Cette méthode doit être appelée lorsque le HUD n'est plus nécessaire,
      * pour éviter les fuites de mémoire.</p>
      */
     public void dispose() {
-        heartTexture.dispose();
+        TextureRegistry.release(AssetPaths.HEART_TEXTURE);
     }
 }
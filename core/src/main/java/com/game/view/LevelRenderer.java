@@ -1,9 +1,15 @@
 package com.game.view;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.game.model.*;
 
+import java.util.List;
+
 /**
  * La classe {@code LevelRenderer} gère le rendu des éléments de la carte du niveau.
  *
@@ -18,6 +24,19 @@ import com.game.model.*;
  *
  * <p>Elle utilise {@link SpriteBatch} pour dessiner les textures et {@link ShapeRenderer}
  * pour tout dessin supplémentaire si nécessaire.</p>
+ *
+ * <p>Les entités mobiles et l'état des fruits sont dessinés d'après un {@link GameSnapshot} : le
+ * rendu ne lit pas l'état vivant de la carte, qui peut être simulée sur un autre thread. Seules
+ * les positions fixes, celles des fruits, qui ne bougent jamais, sont lues directement dans la
+ * carte.</p>
+ *
+ * <p>Les murs ne bougent jamais après le chargement de la carte : regroupés en rectangles, un
+ * sprite par rectangle, ils sont compilés une seule fois dans un {@link SpriteCache}, avec
+ * l'échelle et le décalage courants, puis dessinés en un seul appel. Le cache n'est reconstruit que lorsque la taille de
+ * la fenêtre change.</p>
+ *
+ * <p>Les murs d'une carte infinie changent au gré des morceaux chargés : seules les cases visibles
+ * des morceaux en mémoire sont dessinées, à chaque image.</p>
  */
 public class LevelRenderer {
     /** La carte du jeu contenant tous les éléments à dessiner. */
@@ -26,6 +45,17 @@ public class LevelRenderer {
     /** Utilisé pour des rendus graphiques supplémentaires si nécessaire. */
     private ShapeRenderer shapeRenderer;
 
+    /** Cache contenant la géométrie statique des murs. */
+    private SpriteCache wallCache;
+    /** Identifiant des murs dans le cache. */
+    private int wallCacheId;
+    /** Décalage horizontal utilisé lors de la construction du cache. */
+    private float cachedOffsetX;
+    /** Décalage vertical utilisé lors de la construction du cache. */
+    private float cachedOffsetY;
+    /** Échelle utilisée lors de la construction du cache. */
+    private float cachedScale;
+
     /**
      * Initialise le gestionnaire de rendu avec une carte du jeu.
      *
@@ -50,32 +80,136 @@ public class LevelRenderer {
      * @param batch   {@link SpriteBatch} utilisé pour dessiner les textures.
      * @param offsetX Décalage horizontal pour le rendu, utilisé pour centrer la carte.
      * @param offsetY Décalage vertical pour le rendu, utilisé pour centrer la carte.
-     * @param scale   Échelle appliquée aux éléments pour adapter la carte à l'écran.
+     * @param scale    Échelle appliquée aux éléments pour adapter la carte à l'écran.
+     * @param snapshot Instantané de la simulation à afficher.
+     * @param alpha    Fraction du pas de simulation suivant, utilisée pour interpoler les entités mobiles.
      */
-    public void render(SpriteBatch batch, float offsetX, float offsetY, float scale) {
-        batch.begin();
+    public void render(SpriteBatch batch, float offsetX, float offsetY, float scale, GameSnapshot snapshot, float alpha) {
+        if (gameMap.getChunkedWalls() != null) {
+            // Dessiner les murs visibles des morceaux en mémoire
+            batch.begin();
+            renderChunkedWalls(batch, offsetX, offsetY, scale);
+        } else {
+            // Dessiner les murs depuis le cache statique
+            if (wallCache == null || offsetX != cachedOffsetX || offsetY != cachedOffsetY || scale != cachedScale) {
+                buildWallCache(offsetX, offsetY, scale);
+            }
+            Gdx.gl.glEnable(GL20.GL_BLEND);
+            Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            wallCache.setProjectionMatrix(batch.getProjectionMatrix());
+            wallCache.begin();
+            wallCache.draw(wallCacheId);
+            wallCache.end();
 
-        // Dessiner les murs
-        for (Tile wall : gameMap.getWalls()) {
-            wall.render(batch, offsetX, offsetY, scale);
+            batch.begin();
         }
 
-        // Dessiner les fruits
-        for (Fruit fruit : gameMap.getFruits()) {
-            fruit.render(batch, offsetX, offsetY, scale);
+        // Zone visible, dans le repère de la carte : sur une carte infinie, la plupart des
+        // entités sont hors de l'écran.
+        float minX = -offsetX / scale - gameMap.getTileWidth();
+        float minY = -offsetY / scale - gameMap.getTileHeight();
+        float maxX = (Gdx.graphics.getWidth() - offsetX) / scale;
+        float maxY = (Gdx.graphics.getHeight() - offsetY) / scale;
+
+        // Dessiner les fruits : leurs positions fixes sont lues directement, l'état mangé vient de
+        // l'instantané ; seuls les fruits visibles sont lus par leur objet
+        EntityStore fruitStore = gameMap.getFruitStore();
+        List<Fruit> fruits = gameMap.getFruits();
+        for (int i = 0; i < fruitStore.size(); i++) {
+            float x = fruitStore.getX(i);
+            float y = fruitStore.getY(i);
+            if (!snapshot.isFruitEaten(i) && x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                fruits.get(i).render(batch, offsetX, offsetY, scale);
+            }
         }
 
         // Dessiner les ennemis
-        for (Enemy enemy : gameMap.getEnemies()) {
-            enemy.render(batch, offsetX, offsetY, scale);
+        List<Enemy> enemies = gameMap.getEnemies();
+        for (int i = 0; i < snapshot.getEnemyCount(); i++) {
+            float x = snapshot.getEnemyX(i, alpha);
+            float y = snapshot.getEnemyY(i, alpha);
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                enemies.get(i).render(batch, offsetX, offsetY, scale, x, y);
+            }
         }
 
         // Dessiner le joueur
-        gameMap.getPlayer().render(batch, offsetX, offsetY, scale);
+        if (snapshot.isPlayerVisible()) {
+            gameMap.getPlayer().render(batch, offsetX, offsetY, scale,
+                snapshot.getPlayerX(alpha), snapshot.getPlayerY(alpha));
+        }
 
         batch.end();
     }
 
+    /**
+     * Dessine les murs visibles d'une carte infinie, dans les morceaux en mémoire.
+     *
+     * @param batch   {@link SpriteBatch} utilisé pour dessiner les murs, déjà commencé.
+     * @param offsetX Décalage horizontal pour le rendu.
+     * @param offsetY Décalage vertical pour le rendu.
+     * @param scale   Échelle appliquée aux murs.
+     */
+    private void renderChunkedWalls(SpriteBatch batch, float offsetX, float offsetY, float scale) {
+        ChunkedWallGrid grid = gameMap.getChunkedWalls();
+        TextureRegion region = gameMap.getWallRegion();
+        float width = grid.getCellWidth() * scale;
+        float height = grid.getCellHeight() * scale;
+
+        int minX = Math.max(0, (int) Math.floor(-offsetX / width));
+        int minY = Math.max(0, (int) Math.floor(-offsetY / height));
+        int maxX = Math.min(grid.getWidth() - 1, (int) Math.floor((Gdx.graphics.getWidth() - offsetX) / width));
+        int maxY = Math.min(grid.getHeight() - 1, (int) Math.floor((Gdx.graphics.getHeight() - offsetY) / height));
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                if (grid.isLoadedWall(x, y)) {
+                    batch.draw(region, offsetX + x * width, offsetY + y * height, width, height);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compile les murs de la carte dans le cache avec l'échelle et le décalage spécifiés.
+     *
+     * @param offsetX Décalage horizontal pour le rendu.
+     * @param offsetY Décalage vertical pour le rendu.
+     * @param scale   Échelle appliquée aux murs.
+     */
+    private void buildWallCache(float offsetX, float offsetY, float scale) {
+        int wallCount = 0;
+        for (Tile wall : gameMap.getWalls()) {
+            wallCount += wall.getSpriteCount();
+        }
+        wallCount = Math.max(1, wallCount);
+        if (wallCache == null) {
+            // Les indices sont codés sur 16 bits : au-delà de 8191 sprites, le cache s'en passe.
+            wallCache = new SpriteCache(wallCount, wallCount <= 8191);
+        } else {
+            wallCache.clear();
+        }
+
+        wallCache.beginCache();
+        for (Tile wall : gameMap.getWalls()) {
+            wall.cache(wallCache, offsetX, offsetY, scale);
+        }
+        wallCacheId = wallCache.endCache();
+
+        cachedOffsetX = offsetX;
+        cachedOffsetY = offsetY;
+        cachedScale = scale;
+    }
+
+    /**
+     * Libère le cache des murs. Il sera reconstruit au prochain rendu si nécessaire.
+     */
+    public void invalidateWallCache() {
+        if (wallCache != null) {
+            wallCache.dispose();
+            wallCache = null;
+        }
+    }
+
     /**
      * Libère les ressources utilisées par le rendu du niveau.
      *
@@ -84,5 +218,6 @@ public class LevelRenderer {
      */
     public void dispose() {
         shapeRenderer.dispose();
+        invalidateWallCache();
     }
 }
@@ -5,15 +5,22 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.game.model.*;
 import com.game.controller.*;
 
+import java.io.IOException;
+
 /**
  * La classe {@code LevelScreen} représente l'écran principal où se déroule le jeu.
  *
  * <p>Elle gère l'affichage de la carte du jeu, du joueur, des ennemis, des fruits,
  * et du HUD (affichage des vies). Elle s'occupe également de gérer les transitions entre les écrans
  * de victoire et de défaite.</p>
+ *
+ * <p>Par défaut, la simulation avance sur le thread de rendu. Si le {@link LevelManager} active
+ * la simulation sur un thread dédié, l'écran ne fait plus qu'afficher le dernier instantané
+ * publié par le {@link SimulationThread}.</p>
  */
 public class LevelScreen implements GameScreen {
     /** Scène pour gérer les éléments de l'interface utilisateur. */
@@ -32,6 +39,22 @@ public class LevelScreen implements GameScreen {
     private LevelRenderer levelRenderer;
     /** Indique si le jeu est terminé avec succès. */
     private boolean gameFinished;
+    /** Cadence fixe de la simulation, indépendante de la fréquence d'affichage. */
+    private FixedTimestep timestep;
+    /** Horloge de la simulation du niveau. */
+    private SimulationClock clock;
+    /** Lecture des commandes du joueur au clavier. */
+    private KeyboardInput keyboard;
+    /** Source des commandes fournie à la simulation : le clavier, éventuellement enregistré. */
+    private InputSource input;
+    /** Enregistreur des commandes du joueur, ou {@code null} si l'enregistrement est désactivé. */
+    private InputRecorder recorder;
+    /** Instantané affiché lorsque la simulation avance sur le thread de rendu. */
+    private GameSnapshot frameSnapshot;
+    /** Échange des instantanés avec le thread de simulation, ou {@code null} sans thread dédié. */
+    private SnapshotExchange exchange;
+    /** Thread de simulation dédié, ou {@code null} si la simulation avance sur le thread de rendu. */
+    private SimulationThread simulationThread;
 
     /**
      * Initialise un nouvel écran de jeu avec un gestionnaire de niveaux et un gestionnaire d'écrans.
@@ -46,12 +69,28 @@ public class LevelScreen implements GameScreen {
         this.hud = new HUD(3); // Initialisation du HUD.
         this.stage = new Stage(); // Initialisation de la scène.
         this.levelRenderer = new LevelRenderer(gameMap); // Initialisation du LevelRenderer.
+        this.clock = new SimulationClock(levelManager.getSimulationRate());
+        this.timestep = new FixedTimestep(clock.getTicksPerSecond());
+        this.keyboard = new KeyboardInput();
+        this.input = keyboard;
+        if (levelManager.getInputLogFile() != null) {
+            try {
+                recorder = new InputRecorder(keyboard, levelManager.getCurrentLevel(), clock.getTicksPerSecond(),
+                    Gdx.files.local(levelManager.getInputLogFile()).write(false));
+                input = recorder;
+            } catch (IOException | GdxRuntimeException e) {
+                System.err.println("Impossible d'enregistrer les commandes du joueur : " + e.getMessage());
+            }
+        }
+        this.frameSnapshot = new GameSnapshot(gameMap);
+        this.frameSnapshot.capture(gameMap, clock.getTick());
     }
 
     /**
      * Méthode appelée lorsque l'écran devient actif.
      *
-     * <p>Configure la caméra et vérifie si la carte du jeu est correctement chargée.</p>
+     * <p>Configure la caméra, vérifie si la carte du jeu est correctement chargée et démarre
+     * le thread de simulation si ce mode est activé.</p>
      */
     @Override
     public void show() {
@@ -65,49 +104,78 @@ public class LevelScreen implements GameScreen {
         camera.setToOrtho(false, gameMap.getMapWidth(), gameMap.getMapHeight());
         camera.position.set(gameMap.getMapWidth() / 2, gameMap.getMapHeight() / 2, 0);
         camera.update();
+
+        if (levelManager.isThreadedSimulation() && simulationThread == null) {
+            exchange = new SnapshotExchange(gameMap);
+            simulationThread = new SimulationThread(gameMap, clock, input, exchange);
+            simulationThread.start();
+        }
     }
 
     /**
      * Affiche et met à jour les éléments du niveau.
      *
+     * <p>La simulation avance par pas fixes selon le temps écoulé depuis la frame précédente
+     * (ou sur son propre thread), puis le niveau est dessiné d'après le dernier instantané,
+     * en interpolant les positions entre les deux derniers pas.</p>
+     *
      * @param batch Le {@link SpriteBatch} utilisé pour dessiner les éléments du niveau.
      */
     @Override
     public void render(SpriteBatch batch) {
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT); // Nettoyage de l'écran.
 
-        Player player = gameMap.getPlayer();
+        // Lire le clavier pour la simulation.
+        keyboard.sample();
+
+        // Obtenir l'instantané à afficher.
+        GameSnapshot snapshot;
+        float alpha;
+        if (simulationThread != null) {
+            snapshot = exchange.latest();
+            alpha = simulationThread.getAlpha(snapshot);
+        } else {
+            // Avancer la simulation par pas fixes.
+            int steps = timestep.advance(Gdx.graphics.getDeltaTime());
+            for (int i = 0; i < steps; i++) {
+                gameMap.step(clock, input);
+            }
+            frameSnapshot.capture(gameMap, clock.getTick());
+            snapshot = frameSnapshot;
+            alpha = timestep.getAlpha();
+        }
 
         // Calculer les échelles et décalages pour centrer la carte.
         float screenWidth = Gdx.graphics.getWidth();
         float screenHeight = Gdx.graphics.getHeight();
-        float mapPixelWidth = gameMap.getMapWidth() * gameMap.getTileWidth();
-        float mapPixelHeight = gameMap.getMapHeight() * gameMap.getTileHeight();
-        float scale = Math.min(screenWidth / mapPixelWidth, screenHeight / mapPixelHeight);
-        float offsetX = (screenWidth - mapPixelWidth * scale) / 2;
-        float offsetY = (screenHeight - mapPixelHeight * scale) / 2;
+        float scale;
+        float offsetX;
+        float offsetY;
+        ChunkedWallGrid chunks = gameMap.getChunkedWalls();
+        if (chunks != null) {
+            // Carte infinie : suivre le joueur, sans montrer plus loin que les morceaux toujours chargés.
+            scale = Math.max(1, Math.max(screenWidth / (2 * chunks.getActiveExtentX()),
+                screenHeight / (2 * chunks.getActiveExtentY())));
+            offsetX = screenWidth / 2 - (snapshot.getPlayerX(alpha) + gameMap.getTileWidth() / 2f) * scale;
+            offsetY = screenHeight / 2 - (snapshot.getPlayerY(alpha) + gameMap.getTileHeight() / 2f) * scale;
+        } else {
+            float mapPixelWidth = gameMap.getMapWidth() * gameMap.getTileWidth();
+            float mapPixelHeight = gameMap.getMapHeight() * gameMap.getTileHeight();
+            scale = Math.min(screenWidth / mapPixelWidth, screenHeight / mapPixelHeight);
+            offsetX = (screenWidth - mapPixelWidth * scale) / 2;
+            offsetY = (screenHeight - mapPixelHeight * scale) / 2;
+        }
 
         // Afficher le HUD.
         batch.begin();
-        hud.render(batch, player.getLives(), screenWidth, screenHeight);
+        hud.render(batch, snapshot.getLives(), screenWidth, screenHeight);
         batch.end();
 
-        // Mettre à jour les ennemis avant de les afficher
-        for (Enemy enemy : gameMap.getEnemies()) {
-            enemy.update(Gdx.graphics.getDeltaTime(), gameMap);
-        }
-
         // Afficher la carte et les entités via le LevelRenderer.
-        levelRenderer.render(batch, offsetX, offsetY, scale);
-
-        // Gérer les entrées et mises à jour du joueur.
-        player.handleInput(gameMap);
-        player.handleFruitCollision(gameMap.getFruits());
-        player.handleEnemyCollision(gameMap.getEnemies());
-        player.update(Gdx.graphics.getDeltaTime());
+        levelRenderer.render(batch, offsetX, offsetY, scale, snapshot, alpha);
 
         // Vérifier si le joueur a atteint la fin.
-        if (gameMap.isPlayerInEndZone(player.getX(), player.getY())) {
+        if (snapshot.isPlayerInEndZone()) {
             if (!gameFinished) {
                 gameFinished = true;
                 levelManager.setLevelCompleted();
@@ -117,16 +185,20 @@ public class LevelScreen implements GameScreen {
         }
 
         // Vérifier si le joueur a perdu toutes ses vies.
-        if (player.getLives() <= 0) {
+        if (snapshot.getLives() <= 0) {
             screenManager.setScreen(new GameOverScreen(screenManager, levelManager));
         }
     }
 
     /**
      * Libère les ressources utilisées par l'écran.
+     *
+     * <p>L'écran peut être libéré sans avoir été masqué, à la fermeture du jeu en cours de niveau :
+     * le thread de simulation est alors arrêté et le journal d'entrées terminé ici.</p>
      */
     @Override
     public void dispose() {
+        stopSimulation();
         hud.dispose();
         levelRenderer.dispose();
         stage.dispose();
@@ -143,10 +215,27 @@ public class LevelScreen implements GameScreen {
     }
 
     /**
-     * Méthode requise par l'interface GameScreen, mais non utilisée dans cette classe.
+     * Méthode appelée lorsque l'écran devient inactif.
+     *
+     * <p>Arrête le thread de simulation éventuel, termine le journal d'entrées et libère le
+     * cache des murs, qui sera reconstruit si l'écran est de nouveau affiché.</p>
      */
     @Override
     public void hide() {
-        // Non implémenté, méthode requise par GameScreen.
+        stopSimulation();
+        levelRenderer.invalidateWallCache();
+    }
+
+    /**
+     * Arrête le thread de simulation éventuel puis termine le journal d'entrées.
+     */
+    private void stopSimulation() {
+        if (simulationThread != null) {
+            simulationThread.stop();
+            simulationThread = null;
+        }
+        if (recorder != null) {
+            recorder.close();
+        }
     }
 }
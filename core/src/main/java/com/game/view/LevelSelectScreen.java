@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.ImageButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
@@ -13,6 +14,7 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.game.controller.*;
 import com.game.model.*;
 import com.game.assets.AssetPaths;
+import com.game.assets.TextureRegistry;
 
 
 /**
@@ -52,7 +54,7 @@ public class LevelSelectScreen implements GameScreen {
         table.setFillParent(true);
 
         //Image du titre
-        Texture titleTexture = new Texture(Gdx.files.internal(AssetPaths.SELECT_LEVEL));
+        TextureRegion titleTexture = TextureRegistry.acquire(AssetPaths.SELECT_LEVEL);
         com.badlogic.gdx.scenes.scene2d.ui.Image titleImage = new com.badlogic.gdx.scenes.scene2d.ui.Image(titleTexture);
 
         titleImage.setPosition(
@@ -86,7 +88,7 @@ public class LevelSelectScreen implements GameScreen {
      * @param level     Numéro du niveau.
      */
     private void createLevelButton(String imagePath, String levelName, final int level) {
-        Texture levelTexture = new Texture(Gdx.files.internal(imagePath));
+        TextureRegion levelTexture = TextureRegistry.acquire(imagePath);
         com.badlogic.gdx.scenes.scene2d.ui.Image image = new com.badlogic.gdx.scenes.scene2d.ui.Image(levelTexture); // Créer une image
         ImageButton.ImageButtonStyle style = new ImageButton.ImageButtonStyle();
         style.imageUp = image.getDrawable();
@@ -156,6 +158,11 @@ public class LevelSelectScreen implements GameScreen {
     @Override
     public void dispose() {
         stage.dispose();  // Libérer les ressources
+        TextureRegistry.release(AssetPaths.SELECT_LEVEL);
+        TextureRegistry.release(AssetPaths.LEVEL1_BUTTON);
+        TextureRegistry.release(AssetPaths.LEVEL2_BUTTON);
+        TextureRegistry.release(AssetPaths.LEVEL3_BUTTON);
+        TextureRegistry.release(AssetPaths.LEVEL4_BUTTON);
     }
 
     /**
@@ -1,8 +1,8 @@
 package com.game.view;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
@@ -11,18 +11,23 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.game.controller.*;
 import com.game.assets.AssetPaths;
+import com.game.assets.GameAssets;
+import com.game.assets.TextureRegistry;
 
 /**
  * La classe {@code LoadingScreen} représente l'écran de chargement affiché avant le début du jeu.
  *
- * <p>Elle utilise une barre de progression pour indiquer visuellement l'avancement du chargement.
- * Une fois le chargement terminé, elle passe automatiquement à l'écran du niveau.</p>
+ * <p>Elle fait avancer le chargement asynchrone des ressources ({@link GameAssets}) et affiche
+ * son avancement réel dans une barre de progression. Une fois le chargement terminé, elle charge
+ * le premier niveau et passe automatiquement à l'écran du niveau.</p>
  *
  * <p>Cette classe utilise {@link ScreenManager} pour gérer les transitions d'écrans
  * et {@link LevelManager} pour préparer le niveau.</p>
  *
  */
 public class LoadingScreen implements GameScreen {
+    /** Rapport largeur/hauteur de l'image du logo, utilisé avant son chargement. */
+    private static final float LOGO_ASPECT_RATIO = 574f / 312f;
     /** Scène pour afficher les éléments UI. */
     private Stage stage;
     /** Barre de progression indiquant l'état du chargement. */
@@ -33,8 +38,8 @@ public class LoadingScreen implements GameScreen {
     private boolean isReadyToStart;
     /** Progression actuelle du chargement (0-100%). */
     private float progress;
-    /** Texture utilisée pour afficher le logo pendant le chargement. */
-    private Texture logoTexture;
+    /** Région de l'atlas utilisée pour afficher le logo, dès que l'atlas est chargé. */
+    private TextureRegion logoTexture;
     /** Gestionnaire d'écrans pour naviguer entre les écrans. */
     private ScreenManager screenManager;
     /** Gestionnaire des niveaux pour préparer les niveaux après le chargement. */
@@ -51,10 +56,7 @@ public class LoadingScreen implements GameScreen {
         this.levelManager = levelManager;  // Initialiser avec le LevelManager
 
         stage = new Stage(new ScreenViewport());
-        Skin skin = new Skin(Gdx.files.internal(AssetPaths.UISKIN));
-
-        // Charger le logo
-        logoTexture = new Texture(Gdx.files.internal(AssetPaths.MAZEGAME));
+        Skin skin = GameAssets.get(AssetPaths.UISKIN, Skin.class); // Nécessaire pour afficher la progression
 
         // Barre de progression
         progressBar = new ProgressBar(0, 100, 1, false, skin);
@@ -68,15 +70,10 @@ public class LoadingScreen implements GameScreen {
         table.setFillParent(true);
         table.center();
 
-        // Ajouter l'image du logo
+        // Réserver la place du logo
         table.add().row();
-        float logoWidth = logoTexture.getWidth();
-        float logoHeight = logoTexture.getHeight();
-        float aspectRatio = logoWidth / logoHeight;
-        float screenWidth = Gdx.graphics.getWidth();
-        float newLogoWidth = screenWidth * 0.4f;
-        float newLogoHeight = newLogoWidth / aspectRatio;
-        table.add().size(newLogoWidth, newLogoHeight).padBottom(200).row();
+        float newLogoWidth = Gdx.graphics.getWidth() * 0.4f;
+        table.add().size(newLogoWidth, newLogoWidth / LOGO_ASPECT_RATIO).padBottom(200).row();
 
         // Ajouter la barre de progression
         table.add(progressBar).width(400).padBottom(10).row();
@@ -95,24 +92,30 @@ public class LoadingScreen implements GameScreen {
     /**
      * Met à jour et affiche l'écran de chargement.
      *
-     * <p>La barre de progression et le pourcentage augmentent au fil du temps.
+     * <p>Le chargement avance pendant au plus {@link GameAssets#UPDATE_BUDGET_MILLIS} millisecondes
+     * par frame, puis la barre de progression et le pourcentage affichent son avancement.
      * Une fois le chargement terminé, l'écran passe automatiquement à l'écran du niveau.</p>
      *
      * @param batch Le {@link SpriteBatch} utilisé pour dessiner les éléments graphiques.
      */
     @Override
     public void render(SpriteBatch batch) {
-        // Mettre à jour la progression de la barre
-        if (progress < 100) {
-            progress += Gdx.graphics.getDeltaTime() * 50; // Progression de 50% par seconde
-            progressBar.setValue(progress);
-            percentageLabel.setText((int) progress + "%");
+        // Faire avancer le chargement et mettre à jour la progression de la barre
+        boolean loaded = GameAssets.update();
+        progress = GameAssets.getProgress() * 100;
+        progressBar.setValue(progress);
+        percentageLabel.setText((int) progress + "%");
+
+        // Afficher le logo dès que l'atlas est disponible
+        if (logoTexture == null && (loaded || GameAssets.isLoaded(AssetPaths.SPRITE_ATLAS))) {
+            logoTexture = TextureRegistry.acquire(AssetPaths.MAZEGAME);
         }
 
         // Vérifier si le chargement est terminé
-        if (progress >= 100 && !isReadyToStart) {
+        if (loaded && !isReadyToStart) {
             isReadyToStart = true;
             // Passer à l'écran suivant après le chargement
+            levelManager.loadLevel(1);
             screenManager.setScreen(new LevelScreen(levelManager,screenManager));  // Charger le niveau 1
         }
 
@@ -120,10 +123,14 @@ public class LoadingScreen implements GameScreen {
         stage.act();
         stage.draw();
 
+        if (logoTexture == null) {
+            return;
+        }
+
         // Dessiner le logo au centre tout en respectant le rapport d'aspect
         batch.begin();
-        float logoWidth = logoTexture.getWidth();
-        float logoHeight = logoTexture.getHeight();
+        float logoWidth = logoTexture.getRegionWidth();
+        float logoHeight = logoTexture.getRegionHeight();
         float aspectRatio = logoWidth / logoHeight;
         float screenWidth = Gdx.graphics.getWidth();
         float newLogoWidth = screenWidth * 0.4f;
@@ -143,7 +150,9 @@ public class LoadingScreen implements GameScreen {
     @Override
     public void dispose() {
         stage.dispose();
-        logoTexture.dispose();
+        if (logoTexture != null) {
+            TextureRegistry.release(AssetPaths.MAZEGAME);
+        }
     }
 
     @Override
@@ -5,6 +5,7 @@ import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.game.controller.*;
 import com.game.assets.AssetPaths;
+import com.game.assets.GameAssets;
 
 /**
  * La classe {@code VictoryScreen} représente l'écran affiché lorsqu'un joueur termine un niveau avec succès.
@@ -23,7 +24,7 @@ public class VictoryScreen extends EndScreen implements GameScreen {
         super(AssetPaths.WIN, screenManager, levelManager);  // Appel du constructeur parent
 
         // Charger la musique pour l'écran de victoire
-        victoryMusic = Gdx.audio.newMusic(Gdx.files.internal(AssetPaths.VICTORY_MUSIC));
+        victoryMusic = GameAssets.get(AssetPaths.VICTORY_MUSIC, Music.class);
         victoryMusic.setLooping(false);  // Ne pas boucler
     }
 
@@ -63,8 +64,6 @@ public class VictoryScreen extends EndScreen implements GameScreen {
     public void dispose() {
         super.dispose();  // Libérer les ressources de EndScreen
 
-        if (victoryMusic != null) {
-            victoryMusic.dispose();
-        }
+        // La musique appartient à GameAssets, qui la libère à la fermeture du jeu
     }
 }
@@ -0,0 +1,85 @@
+package com.game.controller;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessFiles;
+import com.badlogic.gdx.backends.headless.mock.audio.MockAudio;
+import com.game.model.Enemy;
+import com.game.model.GameMap;
+import com.game.model.InputSource;
+import com.game.model.SimulationClock;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Vérifie qu'un journal d'entrées rejoué reproduit exactement la partie enregistrée.
+ */
+public class InputReplayerTest {
+    private static final int LEVEL = 2;
+    private static final int TICKS = 3000;
+
+    @BeforeClass
+    public static void setUpFiles() {
+        Gdx.files = new HeadlessFiles();
+        Gdx.audio = new MockAudio();
+    }
+
+    @Test
+    public void replayReproducesRecordedSession() throws IOException {
+        AudioManager audioManager = new AudioManager();
+        String mapFile = LevelManager.getMapFile(LEVEL);
+
+        // Partie enregistrée : les commandes changent tous les 37 pas
+        GameMap recorded = new GameMap(mapFile, audioManager);
+        SimulationClock clock = new SimulationClock(LevelManager.DEFAULT_SIMULATION_RATE);
+        InputSource scripted = tick -> (int) ((tick / 37) % 16);
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        InputRecorder recorder = new InputRecorder(scripted, LEVEL, clock.getTicksPerSecond(), log);
+        for (int i = 0; i < TICKS; i++) {
+            recorded.step(clock, recorder);
+        }
+        recorder.close();
+
+        // Partie rejouée sur une nouvelle carte du même niveau
+        InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()));
+        assertEquals(LEVEL, replayer.getLevelId());
+        assertEquals(clock.getTicksPerSecond(), replayer.getTicksPerSecond());
+        assertEquals(TICKS, replayer.getTickCount());
+        GameMap replayed = new GameMap(LevelManager.getMapFile(replayer.getLevelId()), audioManager);
+        SimulationClock replayClock = replayer.replay(replayed, false);
+
+        assertEquals(TICKS, replayClock.getTick());
+        assertEquals(recorded.getPlayer().getX(), replayed.getPlayer().getX(), 0f);
+        assertEquals(recorded.getPlayer().getY(), replayed.getPlayer().getY(), 0f);
+        assertEquals(recorded.getPlayer().getLives(), replayed.getPlayer().getLives());
+        List<Enemy> expected = recorded.getEnemies();
+        List<Enemy> actual = replayed.getEnemies();
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("ennemi " + i, expected.get(i).getX(), actual.get(i).getX(), 0f);
+            assertEquals("ennemi " + i, expected.get(i).getY(), actual.get(i).getY(), 0f);
+        }
+    }
+
+    @Test
+    public void closeWritesTheEndOfTheLogOnce() throws IOException {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        InputRecorder recorder = new InputRecorder(tick -> (int) (tick % 4), LEVEL, 60, log);
+        for (long tick = 0; tick < 10; tick++) {
+            recorder.poll(tick);
+        }
+        recorder.close();
+        int size = log.size();
+
+        // Un second appel, par exemple depuis dispose() après hide(), ne doit rien écrire
+        recorder.close();
+        assertEquals(size, log.size());
+        assertEquals(10, new InputReplayer(new ByteArrayInputStream(log.toByteArray())).getTickCount());
+    }
+}
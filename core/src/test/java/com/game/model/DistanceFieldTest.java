@@ -0,0 +1,64 @@
+package com.game.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Vérifie la marge aux murs du champ de distance, sur des cases qui ne sont pas carrées.
+ */
+public class DistanceFieldTest {
+    /** Cases quatre fois plus larges que hautes. */
+    private static final int CELL_WIDTH = 64;
+    private static final int CELL_HEIGHT = 16;
+
+    @Test
+    public void convertsEachAxisWithItsOwnCellSize() {
+        // Une colonne de murs, à 8 cases de la boîte
+        OccupancyGrid grid = new OccupancyGrid(16, 16, CELL_WIDTH, CELL_HEIGHT);
+        for (int y = 0; y < 16; y++) {
+            grid.set(8, y);
+        }
+        DistanceField field = DistanceField.compute(grid);
+
+        float clearance = field.getClearance(0, 8 * CELL_HEIGHT, 32, CELL_HEIGHT);
+        assertEquals((8 - (float) Math.sqrt(2) - 1f / 16) * CELL_HEIGHT, clearance, 0.5f);
+    }
+
+    @Test
+    public void clearanceKeepsBoxesOffWalls() {
+        OccupancyGrid grid = new OccupancyGrid(24, 24, CELL_WIDTH, CELL_HEIGHT);
+        for (int y = 0; y < 24; y++) {
+            for (int x = 0; x < 24; x++) {
+                if ((x * 7 + y * 13) % 11 == 0) {
+                    grid.set(x, y);
+                }
+            }
+        }
+        DistanceField field = DistanceField.compute(grid);
+        float boxWidth = 40;
+        float boxHeight = 12;
+
+        int positive = 0;
+        for (float y = -32; y < 24 * CELL_HEIGHT + 32; y += 3) {
+            for (float x = -96; x < 24 * CELL_WIDTH + 96; x += 7) {
+                float clearance = field.getClearance(x, y, boxWidth, boxHeight);
+                if (clearance == 0) {
+                    continue;
+                }
+                positive++;
+                assertFalse("Boîte dans un mur en " + x + "," + y, grid.overlaps(x, y, boxWidth, boxHeight));
+                for (int i = 0; i < 16; i++) {
+                    double angle = i * Math.PI / 8;
+                    float dx = (float) (Math.cos(angle) * clearance);
+                    float dy = (float) (Math.sin(angle) * clearance);
+                    assertFalse("Marge " + clearance + " trop grande en " + x + "," + y,
+                        grid.overlaps(x + dx, y + dy, boxWidth, boxHeight));
+                }
+            }
+        }
+        assertTrue(positive > 0);
+    }
+}
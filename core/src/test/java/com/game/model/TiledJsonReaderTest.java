@@ -0,0 +1,130 @@
+package com.game.model;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Vérifie la lecture des cartes Tiled JSON, quel que soit l'ordre des clés.
+ */
+public class TiledJsonReaderTest {
+
+    private static TiledJsonReader read(String json) throws IOException {
+        TiledJsonReader reader = new TiledJsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        reader.read();
+        return reader;
+    }
+
+    private static int[] sequence(int count) {
+        int[] tiles = new int[count];
+        for (int i = 0; i < count; i++) {
+            tiles[i] = i % 3;
+        }
+        return tiles;
+    }
+
+    private static String csv(int[] tiles) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < tiles.length; i++) {
+            builder.append(i == 0 ? "" : ",").append(tiles[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Encode des tuiles comme Tiled : entiers petit-boutistes, compressés puis encodés en base64,
+     * avec les barres obliques échappées.
+     */
+    private static String base64(int[] tiles, String compression) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(tiles.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.asIntBuffer().put(tiles);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        OutputStream out = encoded;
+        if ("zlib".equals(compression)) {
+            out = new DeflaterOutputStream(encoded);
+        } else if ("gzip".equals(compression)) {
+            out = new GZIPOutputStream(encoded);
+        }
+        out.write(bytes.array());
+        out.close();
+        return Base64.getEncoder().encodeToString(encoded.toByteArray()).replace("/", "\\/");
+    }
+
+    @Test
+    public void readsLayerWhoseDataPrecedesItsDimensions() throws IOException {
+        int[] tiles = sequence(7 * 5);
+        TiledJsonReader reader = read("{\"layers\":[{\"data\":[" + csv(tiles) + "],\"height\":5,"
+            + "\"type\":\"tilelayer\",\"width\":7}],\"height\":5,\"tileheight\":32,\"tilewidth\":32,\"width\":7}");
+
+        assertEquals(7, reader.getWidth());
+        assertEquals(5, reader.getHeight());
+        assertEquals(1, reader.getTileLayers().size());
+        assertArrayEquals(tiles, reader.getTileLayers().get(0));
+    }
+
+    @Test
+    public void readsLayerWhoseDimensionsPrecedeItsData() throws IOException {
+        int[] tiles = sequence(7 * 5);
+        TiledJsonReader reader = read("{\"width\":7,\"height\":5,\"layers\":[{\"width\":7,\"height\":5,"
+            + "\"type\":\"tilelayer\",\"data\":[" + csv(tiles) + "]}],\"tileheight\":32,\"tilewidth\":32}");
+
+        assertArrayEquals(tiles, reader.getTileLayers().get(0));
+    }
+
+    @Test
+    public void readsChunkWhoseDataPrecedesItsDimensions() throws IOException {
+        int[] first = sequence(20 * 20);
+        int[] second = sequence(20 * 20);
+        second[0] = 1;
+        TiledJsonReader reader = read("{\"infinite\":true,\"layers\":[{\"chunks\":["
+            + "{\"data\":[" + csv(first) + "],\"height\":20,\"width\":20,\"x\":0,\"y\":0},"
+            + "{\"data\":[" + csv(second) + "],\"height\":20,\"width\":20,\"x\":20,\"y\":0}],"
+            + "\"type\":\"tilelayer\"}],\"tileheight\":32,\"tilewidth\":32}");
+
+        assertEquals(2, reader.getTileChunks().size());
+        assertArrayEquals(first, reader.getTileChunks().get(0).data);
+        assertArrayEquals(second, reader.getTileChunks().get(1).data);
+        assertEquals(20, reader.getTileChunks().get(1).x);
+    }
+
+    @Test
+    public void decodesBase64LayersWhileReading() throws IOException {
+        int[] tiles = sequence(40 * 30);
+        tiles[5] = 0x80000001; // Bit de retournement de Tiled
+        for (String compression : new String[] {"", "zlib", "gzip"}) {
+            TiledJsonReader reader = read("{\"layers\":[{\"compression\":\"" + compression + "\",\"data\":\""
+                + base64(tiles, compression) + "\",\"encoding\":\"base64\",\"height\":30,\"type\":\"tilelayer\","
+                + "\"width\":40}],\"height\":30,\"tileheight\":32,\"tilewidth\":32,\"width\":40}");
+
+            assertEquals(compression, 1, reader.getTileLayers().size());
+            assertArrayEquals(tiles, reader.getTileLayers().get(0));
+        }
+    }
+
+    @Test
+    public void decodesBase64WhoseCompressionFollowsTheData() throws IOException {
+        int[] tiles = sequence(16 * 16);
+        TiledJsonReader reader = read("{\"infinite\":true,\"layers\":[{\"chunks\":[{\"data\":\""
+            + base64(tiles, "gzip") + "\",\"height\":16,\"width\":16,\"x\":-16,\"y\":0}],"
+            + "\"compression\":\"gzip\",\"encoding\":\"base64\",\"type\":\"tilelayer\"},"
+            + "{\"data\":\"" + base64(tiles, "zlib") + "\",\"compression\":\"zlib\",\"type\":\"tilelayer\"}],"
+            + "\"tileheight\":32,\"tilewidth\":32}");
+
+        assertEquals(1, reader.getTileChunks().size());
+        assertArrayEquals(tiles, reader.getTileChunks().get(0).data);
+        assertEquals(-16, reader.getTileChunks().get(0).x);
+        assertArrayEquals(tiles, reader.getTileLayers().get(0));
+    }
+}
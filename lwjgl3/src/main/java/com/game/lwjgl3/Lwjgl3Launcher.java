@@ -1,8 +1,12 @@
 package com.game.lwjgl3;
 
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.game.controller.LevelManager;
 import com.game.controller.Main;
+import com.game.controller.ReplayApplication;
 
 /**
  * La classe {@code Lwjgl3Launcher} est le point d'entrée principal de l'application de jeu.
@@ -14,23 +18,67 @@ import com.game.controller.Main;
  *
  */
 public class Lwjgl3Launcher {
+    /** Option de ligne de commande définissant la fréquence de simulation (en pas par seconde). */
+    private static final String SIMULATION_RATE_OPTION = "--simulation-rate=";
+    /** Option de ligne de commande activant la simulation sur un thread dédié. */
+    private static final String THREADED_SIMULATION_OPTION = "--threaded-simulation";
+    /** Option de ligne de commande enregistrant les commandes du joueur dans un journal d'entrées. */
+    private static final String RECORD_INPUT_OPTION = "--record-input=";
+    /** Option de ligne de commande rejouant un journal d'entrées sans fenêtre. */
+    private static final String REPLAY_OPTION = "--replay=";
+    /** Option de ligne de commande rejouant le journal à la cadence enregistrée plutôt qu'au plus vite. */
+    private static final String REPLAY_REAL_TIME_OPTION = "--replay-real-time";
 
     /**
      * Point d'entrée principal du jeu.
      *
+     * <p>L'option {@code --simulation-rate=N} définit le nombre de pas de simulation par seconde,
+     * indépendamment de la fréquence de rafraîchissement de l'écran. L'option
+     * {@code --threaded-simulation} simule les niveaux sur un thread dédié. L'option
+     * {@code --record-input=FICHIER} enregistre les commandes du joueur pour les rejouer.</p>
+     *
+     * <p>L'option {@code --replay=FICHIER} rejoue un journal d'entrées sans ouvrir de fenêtre, aussi
+     * vite que possible ou, avec {@code --replay-real-time}, à la cadence enregistrée.</p>
+     *
      * @param args Les arguments passés depuis la ligne de commande.
      */
     public static void main(String[] args) {
-        createApplication();
+        int simulationRate = LevelManager.DEFAULT_SIMULATION_RATE;
+        boolean threadedSimulation = false;
+        String inputLogFile = null;
+        String replayFile = null;
+        boolean replayRealTime = false;
+        for (String arg : args) {
+            if (arg.startsWith(SIMULATION_RATE_OPTION)) {
+                simulationRate = Integer.parseInt(arg.substring(SIMULATION_RATE_OPTION.length()));
+            } else if (THREADED_SIMULATION_OPTION.equals(arg)) {
+                threadedSimulation = true;
+            } else if (arg.startsWith(RECORD_INPUT_OPTION)) {
+                inputLogFile = arg.substring(RECORD_INPUT_OPTION.length());
+            } else if (arg.startsWith(REPLAY_OPTION)) {
+                replayFile = arg.substring(REPLAY_OPTION.length());
+            } else if (REPLAY_REAL_TIME_OPTION.equals(arg)) {
+                replayRealTime = true;
+            }
+        }
+        if (replayFile != null) {
+            new HeadlessApplication(new ReplayApplication(replayFile, replayRealTime),
+                new HeadlessApplicationConfiguration());
+            return;
+        }
+        createApplication(simulationRate, threadedSimulation, inputLogFile);
     }
 
     /**
      * Crée et lance une instance de l'application LibGDX avec une configuration par défaut.
      *
+     * @param simulationRate     Le nombre de pas de simulation par seconde.
+     * @param threadedSimulation {@code true} pour simuler les niveaux sur un thread dédié.
+     * @param inputLogFile       Le fichier du journal d'entrées, ou {@code null}.
      * @return Une instance de {@link Lwjgl3Application}.
      */
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(int simulationRate, boolean threadedSimulation, String inputLogFile) {
+        return new Lwjgl3Application(new Main(simulationRate, threadedSimulation, inputLogFile), getDefaultConfiguration());
     }
 
     /**